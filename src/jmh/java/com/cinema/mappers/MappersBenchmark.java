@@ -0,0 +1,89 @@
+package com.cinema.mappers;
+
+import com.cinema.films.application.queries.dto.FilmDto;
+import com.cinema.films.application.queries.dto.FilmMapper;
+import com.cinema.films.application.queries.dto.FilmMapperImpl;
+import com.cinema.films.domain.Film;
+import com.cinema.films.domain.FilmCategory;
+import com.cinema.screenings.application.queries.dto.ScreeningDto;
+import com.cinema.screenings.application.queries.dto.ScreeningMapper;
+import com.cinema.screenings.application.queries.dto.ScreeningMapperImpl;
+import com.cinema.screenings.application.queries.dto.SeatDto;
+import com.cinema.screenings.application.queries.dto.SeatMapper;
+import com.cinema.screenings.application.queries.dto.SeatMapperImpl;
+import com.cinema.screenings.domain.Screening;
+import com.cinema.screenings.domain.Seat;
+import com.cinema.screenings.domain.SeatStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappersBenchmark {
+
+    private static final int ROWS_NUMBER = 20;
+    private static final int ROW_SEATS_NUMBER = 15;
+
+    private final FilmMapper filmMapper = new FilmMapperImpl();
+    private final ScreeningMapper screeningMapper = new ScreeningMapperImpl();
+    private final SeatMapper seatMapper = new SeatMapperImpl();
+
+    private Film film;
+
+    private Screening screening;
+
+    @Setup
+    public void setUp() {
+        film = new Film("Sample title", FilmCategory.COMEDY, 2023, 120);
+        ReflectionTestUtils.setField(film, "id", 1L);
+        var seats = IntStream
+                .range(0, ROWS_NUMBER * ROW_SEATS_NUMBER)
+                .mapToObj(index -> {
+                    var seat = new Seat(index / ROW_SEATS_NUMBER + 1, index % ROW_SEATS_NUMBER + 1, SeatStatus.FREE);
+                    ReflectionTestUtils.setField(seat, "id", index + 1L);
+                    return seat;
+                })
+                .toList();
+        var date = LocalDateTime.now().plusDays(7);
+        screening = new Screening(date, date.plusHours(2), 1L, "1", seats);
+        ReflectionTestUtils.setField(screening, "id", 1L);
+    }
+
+    @Benchmark
+    public FilmDto mapFilm() {
+        return filmMapper.mapToDto(film);
+    }
+
+    @Benchmark
+    public ScreeningDto mapScreening() {
+        return screeningMapper.mapToDto(screening, film.getTitle());
+    }
+
+    /** Seats map of one screening, as returned by the seats endpoint */
+    @Benchmark
+    public List<SeatDto> mapSeats() {
+        return screening
+                .getSeats()
+                .stream()
+                .map(seatMapper::toDto)
+                .toList();
+    }
+}
@@ -0,0 +1,137 @@
+package com.cinema.rooms.domain.allocation;
+
+import com.cinema.rooms.domain.RoomOccupation;
+import com.cinema.rooms.domain.RoomSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/** Placement has a budget of 50 ms per screening */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomAllocationBenchmark {
+
+    private static final Duration SCREENING_DURATION = Duration.ofMinutes(120);
+    private static final Duration BREAK_DURATION = Duration.ofMinutes(30);
+    private static final int SCREENINGS_PER_DAY = 5;
+
+    @Param({"8", "24"})
+    private int roomsNumber;
+
+    @Param({"7", "90"})
+    private int scheduledDays;
+
+    @Param({"120", "600"})
+    private int dayScreeningsNumber;
+
+    private final RoomAllocationSolver solver = new RoomAllocationSolver();
+
+    private List<RoomCandidate> rooms;
+
+    private RoomSchedule busiestSchedule;
+
+    private List<RoomAllocationRequest> dayRequests;
+
+    private List<RoomCandidate> plannedDayRooms;
+
+    private LocalDateTime freeStart;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        var firstDay = LocalDateTime.now().plusDays(7).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        rooms = IntStream
+                .range(0, roomsNumber)
+                .mapToObj(index -> new RoomCandidate(
+                        String.valueOf(index),
+                        100 + random.nextInt(5) * 50,
+                        new RoomSchedule(occupations(firstDay, scheduledDays))
+                ))
+                .toList();
+        busiestSchedule = rooms.get(0).schedule();
+        freeStart = firstDay.plusDays(scheduledDays);
+        dayRequests = LongStream
+                .range(0, dayScreeningsNumber)
+                .mapToObj(id -> {
+                    var start = freeStart.plusMinutes(random.nextInt(10 * 60 / 15) * 15L);
+                    return new RoomAllocationRequest(id, start, start.plus(SCREENING_DURATION), 50 + random.nextInt(200));
+                })
+                .toList();
+        plannedDayRooms = rooms
+                .stream()
+                .map(room -> new RoomCandidate(room.roomId(), room.seatsNumber(), room.schedule().copy()))
+                .toList();
+        var plan = solver.plan(dayRequests, plannedDayRooms);
+        dayRequests
+                .stream()
+                .filter(request -> plan.containsKey(request.id()))
+                .forEach(request -> plannedDayRooms
+                        .stream()
+                        .filter(room -> room.roomId().equals(plan.get(request.id())))
+                        .forEach(room -> room.schedule().addOccupation(request.start(), request.end()))
+                );
+    }
+
+    @Benchmark
+    public boolean isFreeInsideSchedule() {
+        var start = freeStart.minusDays(scheduledDays / 2).plusMinutes(15);
+        return busiestSchedule.isFree(start, start.plus(SCREENING_DURATION));
+    }
+
+    @Benchmark
+    public boolean isFreeAfterSchedule() {
+        return busiestSchedule.isFree(freeStart, freeStart.plus(SCREENING_DURATION));
+    }
+
+    @Benchmark
+    public Optional<String> findBestRoom() {
+        return solver.findBestRoom(rooms, freeStart, freeStart.plus(SCREENING_DURATION), 120);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Optional<String> findBestRoomInPlannedDay() {
+        var start = freeStart.plusHours(5);
+        return solver.findBestRoom(plannedDayRooms, start, start.plus(SCREENING_DURATION), 50);
+    }
+
+    @Benchmark
+    public Map<Long, String> planDay() {
+        return solver.plan(dayRequests, rooms);
+    }
+
+    private static List<RoomOccupation> occupations(LocalDateTime firstDay, int days) {
+        return IntStream
+                .range(0, days * SCREENINGS_PER_DAY)
+                .mapToObj(index -> {
+                    var start = firstDay
+                            .plusDays(index / SCREENINGS_PER_DAY)
+                            .plus(SCREENING_DURATION.plus(BREAK_DURATION).multipliedBy(index % SCREENINGS_PER_DAY));
+                    return new RoomOccupation(start, start.plus(SCREENING_DURATION));
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.cinema.screenings.application.commands.handlers;
+
+import com.cinema.screenings.domain.Seat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateSeatsBenchmark {
+
+    @Param({"10", "20", "40"})
+    private int rowsNumber;
+
+    @Param({"15", "30"})
+    private int rowSeatsNumber;
+
+    @Benchmark
+    public List<Seat> createSeats() {
+        return CreateScreeningHandler.createSeats(rowsNumber, rowSeatsNumber);
+    }
+}
@@ -0,0 +1,68 @@
+package com.cinema.screenings.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScreeningBenchmark {
+
+    @Param({"150", "300", "600"})
+    private int seatsNumber;
+
+    private Screening screening;
+
+    private Long lastSeatId;
+
+    private Long missingSeatId;
+
+    @Setup
+    public void setUp() {
+        var seats = LongStream
+                .rangeClosed(1, seatsNumber)
+                .mapToObj(id -> {
+                    var seat = new Seat((int) (id - 1) / 15 + 1, (int) (id - 1) % 15 + 1, SeatStatus.FREE);
+                    ReflectionTestUtils.setField(seat, "id", id);
+                    return seat;
+                })
+                .toList();
+        var date = LocalDateTime.now().plusDays(7);
+        screening = new Screening(date, date.plusHours(2), 1L, "1", seats);
+        lastSeatId = (long) seatsNumber;
+        missingSeatId = seatsNumber + 1L;
+    }
+
+    @Benchmark
+    public Optional<Seat> findLastSeat() {
+        return screening.findSeat(lastSeatId);
+    }
+
+    @Benchmark
+    public boolean hasLastSeat() {
+        return screening.hasSeat(lastSeatId);
+    }
+
+    @Benchmark
+    public boolean hasMissingSeat() {
+        return screening.hasSeat(missingSeatId);
+    }
+}
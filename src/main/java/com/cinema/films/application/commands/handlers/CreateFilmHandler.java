@@ -18,7 +18,7 @@ public class CreateFilmHandler {
     private final FilmRepository filmRepository;
 
     public void handle(CreateFilm command) {
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         filmYearPolicy.checkFilmYear(command.year());
         if (filmRepository.existsByTitle(command.title())) {
             throw new FilmTitleNotUniqueException();
@@ -30,6 +30,6 @@ public class CreateFilmHandler {
                 command.durationInMinutes()
         );
         var addedFilm = filmRepository.add(film);
-        log.info("Added film:{}", addedFilm);
+        log.debug("Added film:{}", addedFilm);
     }
 }
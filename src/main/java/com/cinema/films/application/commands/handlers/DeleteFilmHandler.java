@@ -15,7 +15,7 @@ public class DeleteFilmHandler {
     private final FilmRepository filmRepository;
 
     public void handle(DeleteFilm command) {
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         var film = filmRepository
                 .readById(command.filmId())
                 .orElseThrow(FilmNotFoundException::new);
@@ -3,6 +3,20 @@ package com.cinema.films.application.queries;
 import com.cinema.films.domain.FilmCategory;
 import lombok.Builder;
 
+import java.util.Collection;
+
+/** @param page zero-based, films are read without paging if both page and size are null */
 @Builder
-public record ReadFilms(String title, FilmCategory category) {
+public record ReadFilms(
+        String title,
+        FilmCategory category,
+        Collection<Long> ids,
+        String search,
+        Integer page,
+        Integer size
+) {
+
+    public boolean isPaged() {
+        return page != null || size != null;
+    }
 }
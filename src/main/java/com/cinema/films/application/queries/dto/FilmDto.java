@@ -4,6 +4,7 @@ package com.cinema.films.application.queries.dto;
 import com.cinema.films.domain.FilmCategory;
 
 public record FilmDto(
+        Long id,
         String title,
         FilmCategory category,
         int year,
@@ -18,7 +18,7 @@ public class ReadFilmHandler {
     private final FilmMapper filmMapper;
 
     public FilmDto handle(ReadFilm query) {
-        log.info("Query:{}", query);
+        log.debug("Query:{}", query);
         return filmRepository
                 .readById(query.id())
                 .map(filmMapper::mapToDto)
@@ -27,10 +27,10 @@ class CreateFilmController {
     @PostMapping
     @SecurityRequirement(name = "basic")
     ResponseEntity<Object> createFilm(@RequestBody @Valid CreateFilm command) {
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         createFilmHandler.handle(command);
         var responseEntity = ResponseEntity.created(URI.create("/films")).build();
-        log.info("Response entity{}", responseEntity);
+        log.debug("Response entity{}", responseEntity);
         return responseEntity;
     }
 }
\ No newline at end of file
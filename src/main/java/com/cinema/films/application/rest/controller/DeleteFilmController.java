@@ -25,10 +25,10 @@ public class DeleteFilmController {
     @SecurityRequirement(name = "basic")
     ResponseEntity<Object> deleteFilm(@PathVariable Long id) {
         var command = new DeleteFilm(id);
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         deleteFilmHandler.handle(command);
         var responseEntity = ResponseEntity.noContent().build();
-        log.info("Response entity:{}", responseEntity);
+        log.debug("Response entity:{}", responseEntity);
         return responseEntity;
     }
 }
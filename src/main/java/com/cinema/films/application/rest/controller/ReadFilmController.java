@@ -26,12 +26,18 @@ class ReadFilmController {
     @GetMapping
     List<FilmDto> readAllFilms(
             @RequestParam(required = false) String title,
-            @RequestParam(required = false) FilmCategory category
+            @RequestParam(required = false) FilmCategory category,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
     ) {
         var queryDto = ReadFilms
                 .builder()
                 .title(title)
                 .category(category)
+                .search(search == null || search.isBlank() ? null : search.strip())
+                .page(page == null ? null : Math.max(page, 0))
+                .size(size)
                 .build();
         return readFilmsHandler.handle(queryDto);
     }
@@ -0,0 +1,145 @@
+package com.cinema.films.infrastructure;
+
+import com.cinema.films.application.queries.ReadFilms;
+import com.cinema.films.domain.Film;
+import com.cinema.films.domain.FilmRepository;
+import com.cinema.shared.pagination.PageSize;
+import com.cinema.shared.transactions.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+class CachingFilmRepositoryAdapter implements FilmRepository {
+
+    private final JpaFilmRepository jpaFilmRepository;
+    private final JpaFilmSearchRepository jpaFilmSearchRepository;
+    private final Cache<Long, Film> films;
+
+    CachingFilmRepositoryAdapter(
+            JpaFilmRepository jpaFilmRepository,
+            JpaFilmSearchRepository jpaFilmSearchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${films.filmsCacheTtlInSeconds}") long filmsCacheTtlInSeconds,
+            @Value("${films.filmsCacheMaxSize}") long filmsCacheMaxSize
+    ) {
+        this.jpaFilmRepository = jpaFilmRepository;
+        this.jpaFilmSearchRepository = jpaFilmSearchRepository;
+        this.films = Caffeine
+                .newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(filmsCacheTtlInSeconds))
+                .maximumSize(filmsCacheMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, films, "films");
+    }
+
+    @Override
+    public Film add(Film film) {
+        var addedFilm = jpaFilmRepository.save(film);
+        AfterCommit.run(() -> films.invalidate(addedFilm.getId()));
+        return addedFilm;
+    }
+
+    @Override
+    public void delete(Film film) {
+        jpaFilmRepository.delete(film);
+        AfterCommit.run(() -> films.invalidate(film.getId()));
+    }
+
+    @Override
+    public Optional<Film> readById(Long id) {
+        var cachedFilm = films.getIfPresent(id);
+        if (cachedFilm != null) {
+            return Optional.of(cachedFilm);
+        }
+        return jpaFilmRepository
+                .findById(id)
+                .map(film -> {
+                    films.put(id, film);
+                    return film;
+                });
+    }
+
+    @Override
+    public List<Film> readAll(ReadFilms query) {
+        if (query.search() != null) {
+            return jpaFilmSearchRepository.search(query, pageRequest(query));
+        }
+        if (query.title() == null && query.category() == null && query.ids() != null && !query.isPaged()) {
+            return List.copyOf(films.getAll(query.ids(), this::readAllByIds).values());
+        }
+        var spec = titleSpec(query)
+                .and(categorySpec(query))
+                .and(idsSpec(query));
+        if (!query.isPaged()) {
+            return jpaFilmRepository.findAll(spec);
+        }
+        return jpaFilmRepository
+                .findAll(spec, pageRequest(query).withSort(Sort.by("title", "id")))
+                .getContent();
+    }
+
+    private static PageRequest pageRequest(ReadFilms query) {
+        return PageRequest.of(
+                query.page() == null ? 0 : query.page(),
+                PageSize.of(query.size())
+        );
+    }
+
+    @Override
+    public boolean existsByTitle(String title) {
+        return jpaFilmRepository.existsByTitle(title);
+    }
+
+    private Map<Long, Film> readAllByIds(Set<? extends Long> ids) {
+        return jpaFilmRepository
+                .findAllById(List.copyOf(ids))
+                .stream()
+                .collect(Collectors.toMap(Film::getId, Function.identity()));
+    }
+
+    private static Specification<Film> titleSpec(ReadFilms query) {
+        return (root, criteriaQuery, criteriaBuilder) -> query.title() == null ?
+                criteriaBuilder.conjunction() :
+                criteriaBuilder.equal(
+                        root.get("title"),
+                        query.title()
+                );
+    }
+
+    private static Specification<Film> categorySpec(ReadFilms query) {
+        return (root, criteriaQuery, criteriaBuilder) -> query.category() == null ?
+                criteriaBuilder.conjunction() :
+                criteriaBuilder.equal(
+                        root.get("category"),
+                        query.category()
+                );
+    }
+
+    private static Specification<Film> idsSpec(ReadFilms query) {
+        return (root, criteriaQuery, criteriaBuilder) -> query.ids() == null ?
+                criteriaBuilder.conjunction() :
+                root.get("id").in(query.ids());
+    }
+}
+
+interface JpaFilmRepository extends JpaRepository<Film, Long>, JpaSpecificationExecutor<Film> {
+    boolean existsByTitle(String title);
+}
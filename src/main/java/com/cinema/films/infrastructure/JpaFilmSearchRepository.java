@@ -0,0 +1,63 @@
+package com.cinema.films.infrastructure;
+
+import com.cinema.films.application.queries.ReadFilms;
+import com.cinema.films.domain.Film;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+@Repository
+@RequiredArgsConstructor
+class JpaFilmSearchRepository {
+
+    private final EntityManager entityManager;
+
+    /** Prefix matches go first, then the rest by trigram similarity */
+    List<Film> search(ReadFilms query, Pageable pageable) {
+        var sql = new StringBuilder("""
+                select f.*
+                from films f
+                where (lower(f.title) like :substring escape '\\' or lower(f.title) % :search)
+                """);
+        if (query.title() != null) {
+            sql.append(" and f.title = :title");
+        }
+        if (query.category() != null) {
+            sql.append(" and f.category = :category");
+        }
+        if (query.ids() != null) {
+            sql.append(" and f.id in (:ids)");
+        }
+        sql.append("""
+                 order by lower(f.title) like :prefix escape '\\' desc,
+                          similarity(lower(f.title), :search) desc,
+                          f.title,
+                          f.id
+                """);
+        var search = query.search().toLowerCase(Locale.ROOT);
+        var escapedSearch = search.replaceAll("([\\\\%_])", "\\\\$1");
+        var nativeQuery = entityManager
+                .createNativeQuery(sql.toString(), Film.class)
+                .setParameter("search", search)
+                .setParameter("substring", "%" + escapedSearch + "%")
+                .setParameter("prefix", escapedSearch + "%")
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        if (query.title() != null) {
+            nativeQuery.setParameter("title", query.title());
+        }
+        if (query.category() != null) {
+            nativeQuery.setParameter("category", query.category().name());
+        }
+        if (query.ids() != null) {
+            nativeQuery.setParameter("ids", query.ids());
+        }
+        @SuppressWarnings("unchecked")
+        List<Film> foundFilms = nativeQuery.getResultList();
+        return foundFilms;
+    }
+}
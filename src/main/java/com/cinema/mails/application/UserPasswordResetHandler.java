@@ -1,22 +1,20 @@
 package com.cinema.mails.application;
 
 import com.cinema.mails.domain.Mail;
-import com.cinema.mails.domain.MailSender;
+import com.cinema.mails.domain.MailDispatcher;
 import com.cinema.mails.domain.MailType;
 import com.cinema.users.domain.events.UserPasswordResetEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Profile;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 @Service
-@Profile("prod")
 @RequiredArgsConstructor
 @Slf4j
 class UserPasswordResetHandler {
 
-    private final MailSender mailSender;
+    private final MailDispatcher mailDispatcher;
 
     @EventListener
     void handle(UserPasswordResetEvent event) {
@@ -28,7 +26,7 @@ class UserPasswordResetHandler {
                 message,
                 MailType.USER_PASSWORD_RESET
         );
-        mailSender.sendMail(passwordResetMail);
-        log.info("Mail sent");
+        mailDispatcher.dispatch(passwordResetMail);
+        log.debug("Mail dispatched");
     }
 }
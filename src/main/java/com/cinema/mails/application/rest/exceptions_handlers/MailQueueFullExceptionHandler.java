@@ -0,0 +1,18 @@
+package com.cinema.mails.application.rest.exceptions_handlers;
+
+import com.cinema.mails.domain.exceptions.MailQueueFullException;
+import com.cinema.shared.exceptions.ExceptionMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+class MailQueueFullExceptionHandler {
+
+    @ExceptionHandler(MailQueueFullException.class)
+    ResponseEntity<ExceptionMessage> handle(MailQueueFullException exception) {
+        var exceptionMessage = new ExceptionMessage(exception.getMessage());
+        return new ResponseEntity<>(exceptionMessage, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,52 @@
+package com.cinema.mails.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "dead_letter_mails")
+@Getter
+@ToString(exclude = "text")
+public class DeadLetterMail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String receiver;
+
+    private String subject;
+
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    private MailType type;
+
+    private int attempts;
+
+    private String lastError;
+
+    private LocalDateTime failedAt;
+
+    protected DeadLetterMail() {
+    }
+
+    public DeadLetterMail(Mail mail, int attempts, String lastError, LocalDateTime failedAt) {
+        this.receiver = mail.getReceiver();
+        this.subject = mail.getSubject();
+        this.text = mail.getText();
+        this.type = mail.getType();
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.failedAt = failedAt;
+    }
+}
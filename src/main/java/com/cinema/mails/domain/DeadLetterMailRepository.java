@@ -0,0 +1,8 @@
+package com.cinema.mails.domain;
+
+import java.util.List;
+
+public interface DeadLetterMailRepository {
+    DeadLetterMail add(DeadLetterMail deadLetterMail);
+    List<DeadLetterMail> readAll();
+}
@@ -0,0 +1,5 @@
+package com.cinema.mails.domain;
+
+public interface MailDispatcher {
+    void dispatch(Mail mail);
+}
@@ -0,0 +1,8 @@
+package com.cinema.mails.domain.exceptions;
+
+public class MailQueueFullException extends RuntimeException {
+
+    public MailQueueFullException() {
+        super("Too many mails waiting to be sent, try again later");
+    }
+}
@@ -0,0 +1,107 @@
+package com.cinema.mails.infrastructure;
+
+import com.cinema.mails.domain.DeadLetterMail;
+import com.cinema.mails.domain.DeadLetterMailRepository;
+import com.cinema.mails.domain.Mail;
+import com.cinema.mails.domain.MailDispatcher;
+import com.cinema.mails.domain.MailSender;
+import com.cinema.mails.domain.exceptions.MailQueueFullException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/** Sends mails off the request thread, retries failed ones and stores them as dead letters after the last attempt */
+@Component
+@Slf4j
+class AsyncMailDispatcher implements MailDispatcher {
+
+    private final MailSender mailSender;
+    private final DeadLetterMailRepository deadLetterMailRepository;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+    private final Semaphore pendingMails;
+    private final int maxAttempts;
+    private final long retryBackoffInMillis;
+
+    AsyncMailDispatcher(
+            MailSender mailSender,
+            DeadLetterMailRepository deadLetterMailRepository,
+            Clock clock,
+            @Value("${mails.senderThreadsNumber}") int senderThreadsNumber,
+            @Value("${mails.maxPendingMails}") int maxPendingMails,
+            @Value("${mails.maxAttempts}") int maxAttempts,
+            @Value("${mails.retryBackoffInMillis}") long retryBackoffInMillis,
+            @Value("${threads.virtual.enabled}") boolean virtualThreadsEnabled
+    ) {
+        this.mailSender = mailSender;
+        this.deadLetterMailRepository = deadLetterMailRepository;
+        this.clock = clock;
+        // the number of senders stays bounded with virtual threads, it limits concurrent SMTP connections
+        this.executor = Executors.newScheduledThreadPool(
+                senderThreadsNumber,
+                virtualThreadsEnabled ? Thread.ofVirtual().name("mail-sender-", 0).factory() : Executors.defaultThreadFactory()
+        );
+        this.pendingMails = new Semaphore(maxPendingMails);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffInMillis = retryBackoffInMillis;
+    }
+
+    @Override
+    public void dispatch(Mail mail) {
+        if (!pendingMails.tryAcquire()) {
+            throw new MailQueueFullException();
+        }
+        try {
+            executor.execute(() -> send(mail, 1));
+        } catch (RejectedExecutionException exception) {
+            pendingMails.release();
+            throw new MailQueueFullException();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void send(Mail mail, int attempt) {
+        try {
+            mailSender.sendMail(mail);
+            pendingMails.release();
+            log.info("Mail sent:{}", mail.getType());
+        } catch (RuntimeException exception) {
+            if (attempt >= maxAttempts) {
+                deadLetter(mail, attempt, exception);
+                return;
+            }
+            var backoffInMillis = retryBackoffInMillis << (attempt - 1);
+            log.warn("Mail sending attempt {} failed, next in {} ms", attempt, backoffInMillis, exception);
+            try {
+                executor.schedule(() -> send(mail, attempt + 1), backoffInMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                deadLetter(mail, attempt, exception);
+            }
+        }
+    }
+
+    private void deadLetter(Mail mail, int attempts, RuntimeException exception) {
+        try {
+            var deadLetterMail = new DeadLetterMail(mail, attempts, exception.getMessage(), LocalDateTime.now(clock));
+            deadLetterMailRepository.add(deadLetterMail);
+            log.error("Mail not sent, added dead letter:{}", deadLetterMail, exception);
+        } catch (RuntimeException deadLetterException) {
+            log.error("Mail not sent and dead letter not added", deadLetterException);
+        } finally {
+            pendingMails.release();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.cinema.mails.infrastructure.db;
+
+import com.cinema.mails.domain.DeadLetterMail;
+import com.cinema.mails.domain.DeadLetterMailRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+class JpaDeadLetterMailRepositoryAdapter implements DeadLetterMailRepository {
+
+    private final JpaDeadLetterMailRepository jpaDeadLetterMailRepository;
+
+    @Override
+    public DeadLetterMail add(DeadLetterMail deadLetterMail) {
+        return jpaDeadLetterMailRepository.save(deadLetterMail);
+    }
+
+    @Override
+    public List<DeadLetterMail> readAll() {
+        return jpaDeadLetterMailRepository.findAll();
+    }
+}
+
+interface JpaDeadLetterMailRepository extends JpaRepository<DeadLetterMail, Long> {
+}
@@ -1,6 +1,7 @@
 package com.cinema.rooms.application;
 
 import com.cinema.rooms.domain.RoomRepository;
+import com.cinema.rooms.domain.RoomScheduleRepository;
 import com.cinema.rooms.domain.exceptions.RoomNotFoundException;
 import com.cinema.screenings.domain.events.ScreeningCreatedEvent;
 import lombok.RequiredArgsConstructor;
@@ -15,14 +16,18 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class ScreeningCreatedHandler {
 
     private final RoomRepository roomRepository;
+    private final RoomScheduleRepository roomScheduleRepository;
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handle(ScreeningCreatedEvent event) {
-        log.info("Handled event:{}", event);
-        var roomOccupation = roomRepository
+        log.debug("Handled event:{}", event);
+        var room = roomRepository
                 .readById(event.roomId())
-                .orElseThrow(RoomNotFoundException::new)
-                .addOccupation(event.start(), event.end());
-        log.info("Room occupation added:{}", roomOccupation.toString());
+                .orElseThrow(RoomNotFoundException::new);
+        var roomOccupation = room.addOccupation(event.start(), event.end());
+        // Schedules are cached per instance, the database rejects occupations overlapping ones added by others
+        roomRepository.update(room);
+        roomScheduleRepository.addOccupation(event.roomId(), event.start(), event.end());
+        log.debug("Room occupation added:{}", roomOccupation);
     }
 }
@@ -1,6 +1,7 @@
 package com.cinema.rooms.application;
 
 import com.cinema.rooms.domain.RoomRepository;
+import com.cinema.rooms.domain.RoomScheduleRepository;
 import com.cinema.rooms.domain.exceptions.RoomNotFoundException;
 import com.cinema.screenings.domain.events.ScreeningEndedEvent;
 import lombok.RequiredArgsConstructor;
@@ -15,14 +16,16 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class ScreeningEndedHandler {
 
     private final RoomRepository roomRepository;
+    private final RoomScheduleRepository roomScheduleRepository;
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handle(ScreeningEndedEvent event) {
-        log.info("Handled event:{}", event);
+        log.debug("Handled event:{}", event);
         roomRepository
                 .readById(event.roomId())
                 .orElseThrow(RoomNotFoundException::new)
                 .removeOccupation(event.screeningDate());
-        log.info("Removed room occupation");
+        roomScheduleRepository.removeOccupation(event.roomId(), event.screeningDate());
+        log.debug("Removed room occupation");
     }
 }
@@ -2,5 +2,10 @@ package com.cinema.rooms.application.queries;
 
 import java.time.LocalDateTime;
 
-public record FindFirstAvailableRoom(LocalDateTime start, LocalDateTime end) {
+/** @param minSeatsNumber optional, rooms with fewer seats are skipped */
+public record FindFirstAvailableRoom(LocalDateTime start, LocalDateTime end, Integer minSeatsNumber) {
+
+    public FindFirstAvailableRoom(LocalDateTime start, LocalDateTime end) {
+        this(start, end, null);
+    }
 }
@@ -1,32 +1,53 @@
 package com.cinema.rooms.application.queries.handlers;
 
 import com.cinema.rooms.application.queries.dto.RoomDto;
-import com.cinema.rooms.application.queries.dto.RoomMapper;
 import com.cinema.rooms.application.queries.FindFirstAvailableRoom;
-import com.cinema.rooms.domain.RoomRepository;
+import com.cinema.rooms.domain.RoomScheduleRepository;
+import com.cinema.rooms.domain.allocation.RoomAllocationSolver;
+import com.cinema.rooms.domain.allocation.RoomCandidate;
 import com.cinema.rooms.domain.exceptions.RoomsNoAvailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class FindFirstAvailableRoomHandler {
 
-    private final RoomRepository roomRepository;
-    private final RoomMapper roomMapper;
+    private final RoomScheduleRepository roomScheduleRepository;
+    private final RoomAllocationSolver roomAllocationSolver;
 
+    /** Rooms are read by the caller, so placing many screenings reads them once */
     @Transactional(readOnly = true)
-    public RoomDto findFirstAvailableRoom(FindFirstAvailableRoom query) {
-        log.info("Query:{}", query);
-        return roomRepository
-                .readAll()
+    public RoomDto findFirstAvailableRoom(FindFirstAvailableRoom query, List<RoomDto> roomsDtos) {
+        log.debug("Query:{}", query);
+        Map<String, RoomDto> rooms = roomsDtos
+                .stream()
+                .collect(Collectors.toMap(RoomDto::id, Function.identity()));
+        var candidates = roomsDtos
                 .stream()
-                .filter(room -> room.hasNoOccupationOn(query.start(), query.end()))
-                .findFirst()
-                .map(roomMapper::toDto)
+                .map(room -> new RoomCandidate(
+                        room.id(),
+                        room.rowsNumber() * room.rowSeatsNumber(),
+                        roomScheduleRepository.readByRoomId(room.id())
+                ))
+                .toList();
+        return roomAllocationSolver
+                .findBestRoom(
+                        candidates,
+                        query.start(),
+                        query.end(),
+                        Objects.requireNonNullElse(query.minSeatsNumber(), 0)
+                )
+                .map(rooms::get)
                 .orElseThrow(RoomsNoAvailableException::new);
     }
 }
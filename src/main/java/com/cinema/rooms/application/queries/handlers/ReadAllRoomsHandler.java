@@ -19,7 +19,7 @@ public class ReadAllRoomsHandler {
     private final RoomMapper roomMapper;
 
     public List<RoomDto> handle(ReadAllRooms query) {
-        log.info("Query:{}", query);
+        log.debug("Query:{}", query);
         return roomRepository
                 .readAll()
                 .stream()
@@ -26,7 +26,7 @@ public class ReadAllRoomsController {
     @SecurityRequirement(name = "basic")
     public List<RoomDto> readAllRooms() {
         var query = new ReadAllRooms();
-        log.info("Query:{}", query);
+        log.debug("Query:{}", query);
         return readAllRoomsHandler.handle(query);
     }
 }
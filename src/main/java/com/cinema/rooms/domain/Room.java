@@ -53,11 +53,4 @@ public class Room {
                 .orElseThrow(RoomOccupationNotFoundException::new);
         this.occupations.remove(foundOccupation);
     }
-
-    public boolean hasNoOccupationOn(LocalDateTime start, LocalDateTime end) {
-        return this
-                .occupations
-                .stream()
-                .noneMatch(occupation -> occupation.hasCollision(start, end));
-    }
 }
@@ -35,10 +35,4 @@ public class RoomOccupation {
     public boolean on(LocalDateTime start) {
         return this.startAt.equals(start);
     }
-
-    public boolean hasCollision(LocalDateTime startAt, LocalDateTime endAt) {
-        var startCollision = !startAt.isBefore(this.startAt) && !startAt.isAfter(this.endAt);
-        var endCollision = !endAt.isBefore(this.startAt) && !endAt.isAfter(this.endAt);
-        return startCollision || endCollision;
-    }
 }
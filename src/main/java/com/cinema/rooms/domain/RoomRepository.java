@@ -5,6 +5,7 @@ import java.util.Optional;
 
 public interface RoomRepository {
     Room add(Room room);
+    Room update(Room room);
     Optional<Room> readById(String id);
     List<Room> readAll();
     Long count();
@@ -0,0 +1,49 @@
+package com.cinema.rooms.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/** Occupations of one room ordered by start date, they never overlap */
+public class RoomSchedule {
+
+    private final NavigableMap<LocalDateTime, LocalDateTime> endsByStart = new ConcurrentSkipListMap<>();
+
+    public RoomSchedule(List<RoomOccupation> occupations) {
+        occupations.forEach(occupation -> endsByStart.put(occupation.getStartAt(), occupation.getEndAt()));
+    }
+
+    /** Periods are closed, an occupation ending or starting exactly at the given bounds collides too */
+    public boolean isFree(LocalDateTime start, LocalDateTime end) {
+        var latestStartedOccupation = endsByStart.floorEntry(end);
+        return latestStartedOccupation == null || latestStartedOccupation.getValue().isBefore(start);
+    }
+
+    /** @return idle time between the given period and the closest occupation, null if there is none */
+    public Duration idleGap(LocalDateTime start, LocalDateTime end) {
+        var previousOccupation = endsByStart.lowerEntry(start);
+        var nextOccupationStart = endsByStart.ceilingKey(end);
+        var gapBefore = previousOccupation == null ? null : Duration.between(previousOccupation.getValue(), start);
+        var gapAfter = nextOccupationStart == null ? null : Duration.between(end, nextOccupationStart);
+        if (gapBefore == null || gapAfter == null) {
+            return gapBefore == null ? gapAfter : gapBefore;
+        }
+        return gapBefore.compareTo(gapAfter) <= 0 ? gapBefore : gapAfter;
+    }
+
+    public void addOccupation(LocalDateTime start, LocalDateTime end) {
+        endsByStart.put(start, end);
+    }
+
+    public void removeOccupation(LocalDateTime start) {
+        endsByStart.remove(start);
+    }
+
+    public RoomSchedule copy() {
+        var copy = new RoomSchedule(List.of());
+        copy.endsByStart.putAll(endsByStart);
+        return copy;
+    }
+}
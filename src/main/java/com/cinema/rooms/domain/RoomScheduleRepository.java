@@ -0,0 +1,10 @@
+package com.cinema.rooms.domain;
+
+import java.time.LocalDateTime;
+
+public interface RoomScheduleRepository {
+    RoomSchedule readByRoomId(String roomId);
+    void addOccupation(String roomId, LocalDateTime start, LocalDateTime end);
+    void removeOccupation(String roomId, LocalDateTime start);
+    void evict(String roomId);
+}
@@ -0,0 +1,17 @@
+package com.cinema.rooms.domain.allocation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/** @param id identifies the request in the plan, e.g. screening id */
+public record RoomAllocationRequest(
+        Long id,
+        LocalDateTime start,
+        LocalDateTime end,
+        int minSeatsNumber
+) {
+
+    Duration duration() {
+        return Duration.between(start, end);
+    }
+}
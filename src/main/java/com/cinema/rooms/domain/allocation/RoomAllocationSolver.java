@@ -0,0 +1,76 @@
+package com.cinema.rooms.domain.allocation;
+
+import com.cinema.rooms.domain.RoomSchedule;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/** Best-fit placement: the smallest free room with enough seats, then the shortest idle gap */
+@Component
+public class RoomAllocationSolver {
+
+    /** Placement of one screening, costs one index lookup per room */
+    public Optional<String> findBestRoom(
+            List<RoomCandidate> rooms,
+            LocalDateTime start,
+            LocalDateTime end,
+            int minSeatsNumber
+    ) {
+        return rooms
+                .stream()
+                .filter(room -> room.seatsNumber() >= minSeatsNumber)
+                .filter(room -> room.schedule().isFree(start, end))
+                .min(bestFit(start, end))
+                .map(RoomCandidate::roomId);
+    }
+
+    /** @return room id by request id, requests which cannot be placed are missing */
+    public Map<Long, String> plan(List<RoomAllocationRequest> requests, List<RoomCandidate> rooms) {
+        var workingRooms = rooms
+                .stream()
+                .map(room -> new RoomCandidate(room.roomId(), room.seatsNumber(), room.schedule().copy()))
+                .toList();
+        var plan = new HashMap<Long, String>();
+        requests
+                .stream()
+                .sorted(
+                        Comparator
+                                .comparingInt(RoomAllocationRequest::minSeatsNumber)
+                                .thenComparing(RoomAllocationRequest::duration)
+                                .reversed()
+                                .thenComparing(RoomAllocationRequest::start)
+                )
+                .forEach(request -> findBestRoom(workingRooms, request.start(), request.end(), request.minSeatsNumber())
+                        .ifPresent(roomId -> {
+                            scheduleOf(workingRooms, roomId).addOccupation(request.start(), request.end());
+                            plan.put(request.id(), roomId);
+                        })
+                );
+        return plan;
+    }
+
+    private static Comparator<RoomCandidate> bestFit(LocalDateTime start, LocalDateTime end) {
+        return Comparator
+                .comparingInt(RoomCandidate::seatsNumber)
+                .thenComparing(
+                        room -> room.schedule().idleGap(start, end),
+                        Comparator.nullsLast(Comparator.<Duration>naturalOrder())
+                )
+                .thenComparing(RoomCandidate::roomId);
+    }
+
+    private static RoomSchedule scheduleOf(List<RoomCandidate> rooms, String roomId) {
+        return rooms
+                .stream()
+                .filter(room -> room.roomId().equals(roomId))
+                .findFirst()
+                .orElseThrow()
+                .schedule();
+    }
+}
@@ -0,0 +1,6 @@
+package com.cinema.rooms.domain.allocation;
+
+import com.cinema.rooms.domain.RoomSchedule;
+
+public record RoomCandidate(String roomId, int seatsNumber, RoomSchedule schedule) {
+}
@@ -0,0 +1,79 @@
+package com.cinema.rooms.infrastructure.db;
+
+import com.cinema.rooms.domain.RoomSchedule;
+import com.cinema.rooms.domain.RoomScheduleRepository;
+import com.cinema.shared.transactions.AfterCommit;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Repository
+class CachingRoomScheduleAdapter implements RoomScheduleRepository {
+
+    private final JpaRoomRepository jpaRoomRepository;
+    private final Clock clock;
+    private final LoadingCache<String, RoomSchedule> roomSchedules;
+
+    CachingRoomScheduleAdapter(
+            JpaRoomRepository jpaRoomRepository,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${rooms.roomScheduleTtlInSeconds}") long roomScheduleTtlInSeconds,
+            @Value("${rooms.roomScheduleCacheMaxSize}") long roomScheduleCacheMaxSize
+    ) {
+        this.jpaRoomRepository = jpaRoomRepository;
+        this.clock = clock;
+        this.roomSchedules = Caffeine
+                .newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(roomScheduleTtlInSeconds))
+                .maximumSize(roomScheduleCacheMaxSize)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, roomSchedules, "roomSchedules");
+    }
+
+    @Override
+    public RoomSchedule readByRoomId(String roomId) {
+        return roomSchedules.get(roomId);
+    }
+
+    @Override
+    public void addOccupation(String roomId, LocalDateTime start, LocalDateTime end) {
+        AfterCommit.run(() -> roomSchedules
+                .asMap()
+                .computeIfPresent(roomId, (id, roomSchedule) -> {
+                    roomSchedule.addOccupation(start, end);
+                    return roomSchedule;
+                })
+        );
+    }
+
+    @Override
+    public void removeOccupation(String roomId, LocalDateTime start) {
+        AfterCommit.run(() -> roomSchedules
+                .asMap()
+                .computeIfPresent(roomId, (id, roomSchedule) -> {
+                    roomSchedule.removeOccupation(start);
+                    return roomSchedule;
+                })
+        );
+    }
+
+    @Override
+    public void evict(String roomId) {
+        roomSchedules.invalidate(roomId);
+    }
+
+    private RoomSchedule load(String roomId) {
+        // Ended occupations never collide with new screenings, so they are not loaded
+        var occupations = jpaRoomRepository.findOccupationsEndedAfter(roomId, LocalDateTime.now(clock));
+        return new RoomSchedule(occupations);
+    }
+}
@@ -1,11 +1,19 @@
 package com.cinema.rooms.infrastructure.db;
 
 import com.cinema.rooms.domain.Room;
+import com.cinema.rooms.domain.RoomOccupation;
 import com.cinema.rooms.domain.RoomRepository;
+import com.cinema.rooms.domain.RoomScheduleRepository;
+import com.cinema.rooms.domain.exceptions.RoomsNoAvailableException;
+import com.cinema.shared.db.ConstraintViolations;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,11 +21,28 @@ import java.util.Optional;
 @RequiredArgsConstructor
 class JpaRoomRepositoryAdapter implements RoomRepository {
 
+    private static final String OCCUPATIONS_OVERLAP_CONSTRAINT = "rooms_occupations_room_id_period_excl";
+
     private final JpaRoomRepository jpaRoomRepository;
+    private final RoomScheduleRepository roomScheduleRepository;
 
     @Override
     public Room add(Room room) {
-        return jpaRoomRepository.save(room);
+        var addedRoom = jpaRoomRepository.save(room);
+        roomScheduleRepository.evict(addedRoom.getId());
+        return addedRoom;
+    }
+
+    @Override
+    public Room update(Room room) {
+        try {
+            return jpaRoomRepository.saveAndFlush(room);
+        } catch (DataIntegrityViolationException exception) {
+            if (ConstraintViolations.isViolationOf(exception, OCCUPATIONS_OVERLAP_CONSTRAINT)) {
+                throw new RoomsNoAvailableException();
+            }
+            throw exception;
+        }
     }
 
     @Override
@@ -42,4 +67,7 @@ class JpaRoomRepositoryAdapter implements RoomRepository {
 }
 
 interface JpaRoomRepository extends JpaRepository<Room, String> {
+
+    @Query("select o from Room r join r.occupations o where r.id = :roomId and o.endAt >= :date")
+    List<RoomOccupation> findOccupationsEndedAfter(@Param("roomId") String roomId, @Param("date") LocalDateTime date);
 }
@@ -1,75 +1,63 @@
 package com.cinema.screenings.application;
 
-import com.cinema.films.application.queries.handlers.ReadFilmHandler;
-import com.cinema.films.application.queries.ReadFilm;
-import com.cinema.screenings.domain.Screening;
 import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.SeatHoldRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
 import com.cinema.screenings.domain.events.ScreeningEndedEvent;
 import com.cinema.shared.events.EventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Profile;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
-import java.util.List;
 
-@Configuration
+@Component
 @RequiredArgsConstructor
 @Slf4j
-@Profile("prod")
 class ScreeningScheduler {
 
     private final ScreeningRepository screeningRepository;
-    private final ReadFilmHandler readFilmHandler;
+    private final SeatMapRepository seatMapRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final TransactionTemplate transactionTemplate;
     private final Clock clock;
     private final EventPublisher eventPublisher;
 
-    /** 3600000ms - 1h */
-    @Scheduled(fixedDelay = 3600000)
-    @Transactional
-    public void run() {
-        log.info("Searching for ended screenings");
-        var endedScreenings = searchEndedScreenings();
-        if (endedScreenings.isEmpty()) {
-            log.info("Ended screenings not found");
-        } else {
-            log.info("Found ended screenings:");
-            endedScreenings.forEach(screening -> log.info(screening.toString()));
-            endedScreenings
-                    .stream()
-                    .map(screening -> {
-                        var event = new ScreeningEndedEvent(
-                                screening.getDate(),
-                                screening.getRoomId()
-                        );
-                        screening.removeRoom();
-                        return event;
-                    })
-                    .forEach(event -> {
-                        log.info(event.toString());
-                        eventPublisher.publish(event);
-                    });
-        }
-    }
+    @Value("${screenings.endedScreeningsChunkSize}")
+    private int endedScreeningsChunkSize;
 
-    private List<Screening> searchEndedScreenings() {
-        return screeningRepository
-                .readWithRoom()
-                .stream()
-                .filter(screening -> {
-                    var endDate = calculateScreeningEndDate(screening.getDate(), screening.getFilmId());
-                    return endDate.isBefore(LocalDateTime.now(clock));
-                })
-                .toList();
+    /** Ended screenings are released in chunks, each in its own transaction */
+    @Scheduled(fixedDelayString = "${screenings.endedScreeningsSweepIntervalInMillis}")
+    public void run() {
+        log.debug("Searching for ended screenings");
+        var now = LocalDateTime.now(clock);
+        var endedScreeningsNumber = 0;
+        int chunkSize;
+        do {
+            chunkSize = transactionTemplate.execute(status -> handleEndedScreenings(now));
+            endedScreeningsNumber += chunkSize;
+        } while (chunkSize == endedScreeningsChunkSize);
+        log.info("Handled ended screenings number:{}", endedScreeningsNumber);
     }
 
-    private LocalDateTime calculateScreeningEndDate(LocalDateTime screeningDate, Long filmId) {
-        var query = new ReadFilm(filmId);
-        var filmDto = readFilmHandler.handle(query);
-        return screeningDate.plusMinutes(filmDto.durationInMinutes());
+    private int handleEndedScreenings(LocalDateTime now) {
+        var endedScreenings = screeningRepository.readEndedWithRoom(now, endedScreeningsChunkSize);
+        endedScreenings.forEach(screening -> {
+            log.debug("Ended screening:{}", screening);
+            var event = new ScreeningEndedEvent(
+                    screening.getDate(),
+                    screening.getRoomId()
+            );
+            screening.removeRoom();
+            seatMapRepository.evict(screening.getId());
+            seatHoldRepository.deleteAllByScreeningId(screening.getId());
+            eventPublisher.publish(event);
+            log.debug("Published event:{}", event);
+        });
+        return endedScreenings.size();
     }
 }
@@ -0,0 +1,27 @@
+package com.cinema.screenings.application;
+
+import com.cinema.screenings.domain.SeatHoldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class SeatHoldScheduler {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${screenings.seatHoldsSweepIntervalInMillis}")
+    public void run() {
+        var releasedHoldsNumber = seatHoldRepository.deleteAllExpired(LocalDateTime.now(clock));
+        if (releasedHoldsNumber > 0) {
+            log.info("Released expired seat holds:{}", releasedHoldsNumber);
+        }
+    }
+}
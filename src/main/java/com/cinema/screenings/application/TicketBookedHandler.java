@@ -1,31 +1,54 @@
 package com.cinema.screenings.application;
 
-import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.SeatHoldRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
+import com.cinema.screenings.domain.SeatStatus;
 import com.cinema.screenings.domain.exceptions.ScreeningNotFoundException;
+import com.cinema.screenings.domain.exceptions.SeatNotAvailableException;
 import com.cinema.screenings.domain.exceptions.SeatNotFoundException;
+import com.cinema.shared.transactions.AfterCommit;
 import com.cinema.tickets.domain.events.TicketBookedEvent;
+import com.cinema.tickets.domain.exceptions.TicketAlreadyExistsException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TicketBookedHandler {
 
-    private final ScreeningRepository screeningRepository;
+    private final SeatMapRepository seatMapRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final Clock clock;
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handle(TicketBookedEvent event) {
-        log.info("Handled event:{}", event);
-        var seat = screeningRepository
-                .readById(event.screeningId())
+        log.debug("Handled event:{}", event);
+        var seat = seatMapRepository
+                .readByScreeningId(event.screeningId())
                 .orElseThrow(ScreeningNotFoundException::new)
                 .findSeat(event.seatId())
                 .orElseThrow(SeatNotFoundException::new);
-        seat.take();
-        log.info("Taken seat:{}", seat);
+        var seatHold = seatHoldRepository.readBy(event.screeningId(), seat.id(), LocalDateTime.now(clock));
+        if (seatHold.isPresent() && !seatHold.get().belongsTo(event.userId())) {
+            throw new SeatNotAvailableException();
+        }
+        var isSeatTaken = seatMapRepository.updateSeatStatus(
+                event.screeningId(),
+                seat.id(),
+                SeatStatus.FREE,
+                SeatStatus.TAKEN
+        );
+        if (!isSeatTaken) {
+            throw new TicketAlreadyExistsException();
+        }
+        seatHold.ifPresent(hold -> AfterCommit.run(() -> seatHoldRepository.delete(hold)));
+        log.debug("Taken seat:{}", seat);
     }
 }
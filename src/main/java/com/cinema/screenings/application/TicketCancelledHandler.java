@@ -1,6 +1,7 @@
 package com.cinema.screenings.application;
 
-import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
+import com.cinema.screenings.domain.SeatStatus;
 import com.cinema.screenings.domain.exceptions.ScreeningNotFoundException;
 import com.cinema.screenings.domain.exceptions.SeatNotFoundException;
 import com.cinema.tickets.domain.events.TicketCancelledEvent;
@@ -15,17 +16,22 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Slf4j
 public class TicketCancelledHandler {
 
-    private final ScreeningRepository screeningRepository;
+    private final SeatMapRepository seatMapRepository;
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handle(TicketCancelledEvent event) {
-        log.info("Handled event:{}", event);
-        var seat = screeningRepository
-                .readById(event.screeningId())
+        log.debug("Handled event:{}", event);
+        var seat = seatMapRepository
+                .readByScreeningId(event.screeningId())
                 .orElseThrow(ScreeningNotFoundException::new)
                 .findSeat(event.seatId())
                 .orElseThrow(SeatNotFoundException::new);
-        seat.free();
-        log.info("Freed seat:{}", seat);
+        seatMapRepository.updateSeatStatus(
+                event.screeningId(),
+                seat.id(),
+                SeatStatus.TAKEN,
+                SeatStatus.FREE
+        );
+        log.debug("Freed seat:{}", seat);
     }
 }
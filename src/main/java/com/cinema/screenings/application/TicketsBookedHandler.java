@@ -0,0 +1,52 @@
+package com.cinema.screenings.application;
+
+import com.cinema.screenings.domain.SeatHoldRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
+import com.cinema.screenings.domain.SeatStatus;
+import com.cinema.screenings.domain.exceptions.SeatNotAvailableException;
+import com.cinema.shared.transactions.AfterCommit;
+import com.cinema.tickets.domain.events.TicketsBookedEvent;
+import com.cinema.tickets.domain.exceptions.TicketAlreadyExistsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketsBookedHandler {
+
+    private final SeatMapRepository seatMapRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final Clock clock;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handle(TicketsBookedEvent event) {
+        log.debug("Handled event:{}", event);
+        var now = LocalDateTime.now(clock);
+        var seatsHolds = event
+                .seatsIds()
+                .stream()
+                .flatMap(seatId -> seatHoldRepository.readBy(event.screeningId(), seatId, now).stream())
+                .toList();
+        if (seatsHolds.stream().anyMatch(seatHold -> !seatHold.belongsTo(event.userId()))) {
+            throw new SeatNotAvailableException();
+        }
+        var takenSeatsNumber = seatMapRepository.updateSeatsStatus(
+                event.screeningId(),
+                event.seatsIds(),
+                SeatStatus.FREE,
+                SeatStatus.TAKEN
+        );
+        if (takenSeatsNumber != event.seatsIds().size()) {
+            throw new TicketAlreadyExistsException();
+        }
+        AfterCommit.run(() -> seatsHolds.forEach(seatHoldRepository::delete));
+        log.debug("Taken seats number:{}", takenSeatsNumber);
+    }
+}
@@ -1,6 +1,7 @@
 package com.cinema.screenings.application.commands;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDateTime;
@@ -12,6 +13,13 @@ public record CreateScreening(
         LocalDateTime date,
 
         @NotNull
-        Long filmId
+        Long filmId,
+
+        @Positive
+        Integer minSeatsNumber
 ) {
+
+    public CreateScreening(LocalDateTime date, Long filmId) {
+        this(date, filmId, null);
+    }
 }
@@ -0,0 +1,4 @@
+package com.cinema.screenings.application.commands;
+
+public record HoldSeat(Long screeningId, Long seatId) {
+}
@@ -0,0 +1,7 @@
+package com.cinema.screenings.application.commands;
+
+import java.io.InputStream;
+
+/** @param input newline delimited JSON, one {@link CreateScreening} per line */
+public record ImportScreenings(InputStream input) {
+}
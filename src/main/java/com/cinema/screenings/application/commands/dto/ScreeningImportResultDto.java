@@ -0,0 +1,16 @@
+package com.cinema.screenings.application.commands.dto;
+
+public record ScreeningImportResultDto(
+        int line,
+        Long screeningId,
+        String error
+) {
+
+    public static ScreeningImportResultDto created(int line, Long screeningId) {
+        return new ScreeningImportResultDto(line, screeningId, null);
+    }
+
+    public static ScreeningImportResultDto failed(int line, String error) {
+        return new ScreeningImportResultDto(line, null, error);
+    }
+}
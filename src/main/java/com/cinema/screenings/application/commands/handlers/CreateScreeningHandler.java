@@ -2,8 +2,12 @@ package com.cinema.screenings.application.commands.handlers;
 
 import com.cinema.films.application.queries.handlers.ReadFilmHandler;
 import com.cinema.films.application.queries.ReadFilm;
+import com.cinema.films.application.queries.dto.FilmDto;
 import com.cinema.rooms.application.queries.handlers.FindFirstAvailableRoomHandler;
 import com.cinema.rooms.application.queries.FindFirstAvailableRoom;
+import com.cinema.rooms.application.queries.ReadAllRooms;
+import com.cinema.rooms.application.queries.dto.RoomDto;
+import com.cinema.rooms.application.queries.handlers.ReadAllRoomsHandler;
 import com.cinema.screenings.application.commands.CreateScreening;
 import com.cinema.screenings.domain.Screening;
 import com.cinema.screenings.domain.ScreeningRepository;
@@ -29,40 +33,53 @@ public class CreateScreeningHandler {
     private final ScreeningRepository screeningRepository;
     private final ReadFilmHandler readFilmHandler;
     private final FindFirstAvailableRoomHandler findFirstAvailableRoomHandler;
+    private final ReadAllRoomsHandler readAllRoomsHandler;
     private final EventPublisher eventPublisher;
 
     @Transactional
     public void handle(CreateScreening command) {
-        log.info("Command:{}", command);
-        screeningDatePolicy.checkScreeningDate(command.date());
+        log.debug("Command:{}", command);
         var readFilmCommand = new ReadFilm(command.filmId());
         var filmDto = readFilmHandler.handle(readFilmCommand);
-        log.info("Film:{}", filmDto);
+        log.debug("Film:{}", filmDto);
+        var rooms = readAllRoomsHandler.handle(new ReadAllRooms());
+        create(command, filmDto, rooms);
+    }
+
+    /** Creates screening of already read film in one of already read rooms, the caller has to provide transaction */
+    Long create(CreateScreening command, FilmDto filmDto, List<RoomDto> rooms) {
+        screeningDatePolicy.checkScreeningDate(command.date());
         var endDate = command.date().plusMinutes(filmDto.durationInMinutes());
-        log.info("Screening end date:{}", endDate);
-        var findFirstAvailableRoomCommand = new FindFirstAvailableRoom(command.date(), endDate);
-        var roomDto = findFirstAvailableRoomHandler.findFirstAvailableRoom(findFirstAvailableRoomCommand);
-        log.info("Found room:{}", roomDto);
+        log.debug("Screening end date:{}", endDate);
+        var findFirstAvailableRoomCommand = new FindFirstAvailableRoom(
+                command.date(),
+                endDate,
+                command.minSeatsNumber()
+        );
+        var roomDto = findFirstAvailableRoomHandler.findFirstAvailableRoom(findFirstAvailableRoomCommand, rooms);
+        log.debug("Found room:{}", roomDto);
         var seats = createSeats(roomDto.rowsNumber(), roomDto.rowSeatsNumber());
-        log.info("Created seats number:{}", seats.size());
+        log.debug("Created seats number:{}", seats.size());
         var screening = new Screening(
                 command.date(),
+                endDate,
                 command.filmId(),
                 roomDto.id(),
                 seats
         );
         var addedScreening = screeningRepository.add(screening);
-        log.info("Screening added:{}", addedScreening);
+        log.debug("Screening added:{}", addedScreening);
         var screeningCreatedEvent = new ScreeningCreatedEvent(
                 screening.getDate(),
                 endDate,
                 screening.getRoomId()
         );
         eventPublisher.publish(screeningCreatedEvent);
-        log.info("Published event:{}", screeningCreatedEvent);
+        log.debug("Published event:{}", screeningCreatedEvent);
+        return addedScreening.getId();
     }
 
-    private List<Seat> createSeats(int rowsQuantity, int seatsQuantityInOneRow) {
+    static List<Seat> createSeats(int rowsQuantity, int seatsQuantityInOneRow) {
         return IntStream
                 .rangeClosed(1, rowsQuantity)
                 .boxed()
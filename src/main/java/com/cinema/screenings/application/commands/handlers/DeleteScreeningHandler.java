@@ -15,7 +15,7 @@ public class DeleteScreeningHandler {
     private final ScreeningRepository screeningRepository;
 
     public void handle(DeleteScreening command) {
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         var screening = screeningRepository
                 .readById(command.screeningId())
                 .orElseThrow(ScreeningNotFoundException::new);
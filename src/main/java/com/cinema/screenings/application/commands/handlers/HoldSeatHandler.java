@@ -0,0 +1,58 @@
+package com.cinema.screenings.application.commands.handlers;
+
+import com.cinema.screenings.application.commands.HoldSeat;
+import com.cinema.screenings.domain.SeatHold;
+import com.cinema.screenings.domain.SeatHoldRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
+import com.cinema.screenings.domain.SeatStatus;
+import com.cinema.screenings.domain.exceptions.ScreeningNotFoundException;
+import com.cinema.screenings.domain.exceptions.SeatNotAvailableException;
+import com.cinema.screenings.domain.exceptions.SeatNotFoundException;
+import com.cinema.users.application.queries.ReadCurrentUserId;
+import com.cinema.users.application.queries.handlers.ReadCurrentUserIdHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HoldSeatHandler {
+
+    private final SeatMapRepository seatMapRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final ReadCurrentUserIdHandler readCurrentUserIdHandler;
+    private final Clock clock;
+
+    @Value("${screenings.seatHoldTtlInSeconds}")
+    private long seatHoldTtlInSeconds;
+
+    public void handle(HoldSeat command) {
+        log.debug("Command:{}", command);
+        var seat = seatMapRepository
+                .readByScreeningId(command.screeningId())
+                .orElseThrow(ScreeningNotFoundException::new)
+                .findSeat(command.seatId())
+                .orElseThrow(SeatNotFoundException::new);
+        if (seat.status() == SeatStatus.TAKEN) {
+            throw new SeatNotAvailableException();
+        }
+        var readCurrentUserIdQuery = new ReadCurrentUserId();
+        var currentUserId = readCurrentUserIdHandler.handle(readCurrentUserIdQuery);
+        var now = LocalDateTime.now(clock);
+        var seatHold = new SeatHold(
+                command.screeningId(),
+                command.seatId(),
+                currentUserId,
+                now.plusSeconds(seatHoldTtlInSeconds)
+        );
+        if (!seatHoldRepository.add(seatHold, now)) {
+            throw new SeatNotAvailableException();
+        }
+        log.debug("Added seat hold:{}", seatHold);
+    }
+}
@@ -0,0 +1,157 @@
+package com.cinema.screenings.application.commands.handlers;
+
+import com.cinema.films.application.queries.ReadFilms;
+import com.cinema.films.application.queries.dto.FilmDto;
+import com.cinema.films.application.queries.handlers.ReadFilmsHandler;
+import com.cinema.films.domain.exceptions.FilmNotFoundException;
+import com.cinema.rooms.application.queries.ReadAllRooms;
+import com.cinema.rooms.application.queries.dto.RoomDto;
+import com.cinema.rooms.application.queries.handlers.ReadAllRoomsHandler;
+import com.cinema.rooms.domain.exceptions.RoomsNoAvailableException;
+import com.cinema.screenings.application.commands.CreateScreening;
+import com.cinema.screenings.application.commands.ImportScreenings;
+import com.cinema.screenings.application.commands.dto.ScreeningImportResultDto;
+import com.cinema.screenings.domain.exceptions.ScreeningDateOutOfRangeException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/** Creates screenings row by row, each in its own transaction, reading rooms once and films once per chunk of rows */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImportScreeningsHandler {
+
+    private static final int ROWS_CHUNK_SIZE = 100;
+    private static final String SCREENING_NOT_CREATED_ERROR = "Screening could not be created";
+
+    private final CreateScreeningHandler createScreeningHandler;
+    private final ReadFilmsHandler readFilmsHandler;
+    private final ReadAllRoomsHandler readAllRoomsHandler;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${screenings.importMaxRows}")
+    private int importMaxRows;
+
+    public List<ScreeningImportResultDto> handle(ImportScreenings command) {
+        var rooms = readAllRoomsHandler.handle(new ReadAllRooms());
+        var results = new ArrayList<ScreeningImportResultDto>();
+        var rows = new ArrayList<Row>();
+        try (var reader = new BufferedReader(new InputStreamReader(command.input(), StandardCharsets.UTF_8))) {
+            var lineNumber = 0;
+            var rowsNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                rowsNumber++;
+                if (rowsNumber > importMaxRows) {
+                    results.addAll(importRows(rows, rooms));
+                    rows.clear();
+                    results.add(ScreeningImportResultDto.failed(lineNumber, "Rows limit " + importMaxRows + " exceeded"));
+                    break;
+                }
+                rows.add(readRow(lineNumber, line));
+                if (rows.size() == ROWS_CHUNK_SIZE) {
+                    results.addAll(importRows(rows, rooms));
+                    rows.clear();
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        results.addAll(importRows(rows, rooms));
+        log.info(
+                "Imported screenings number:{}",
+                results.stream().filter(result -> result.error() == null).count()
+        );
+        return results;
+    }
+
+    private List<ScreeningImportResultDto> importRows(List<Row> rows, List<RoomDto> rooms) {
+        var films = readFilms(rows);
+        return rows
+                .stream()
+                .map(row -> importRow(row, films, rooms))
+                .toList();
+    }
+
+    private ScreeningImportResultDto importRow(Row row, Map<Long, FilmDto> films, List<RoomDto> rooms) {
+        if (row.error() != null) {
+            return ScreeningImportResultDto.failed(row.line(), row.error());
+        }
+        var filmDto = films.get(row.command().filmId());
+        if (filmDto == null) {
+            return ScreeningImportResultDto.failed(row.line(), new FilmNotFoundException().getMessage());
+        }
+        try {
+            var screeningId = transactionTemplate.execute(
+                    status -> createScreeningHandler.create(row.command(), filmDto, rooms)
+            );
+            return ScreeningImportResultDto.created(row.line(), screeningId);
+        } catch (ScreeningDateOutOfRangeException | RoomsNoAvailableException exception) {
+            return ScreeningImportResultDto.failed(row.line(), exception.getMessage());
+        } catch (RuntimeException exception) {
+            log.error("Screening import of line {} failed", row.line(), exception);
+            return ScreeningImportResultDto.failed(row.line(), SCREENING_NOT_CREATED_ERROR);
+        }
+    }
+
+    private Map<Long, FilmDto> readFilms(List<Row> rows) {
+        var filmsIds = rows
+                .stream()
+                .map(Row::command)
+                .filter(Objects::nonNull)
+                .map(CreateScreening::filmId)
+                .collect(Collectors.toSet());
+        if (filmsIds.isEmpty()) {
+            return Map.of();
+        }
+        return readFilmsHandler
+                .handle(ReadFilms.builder().ids(filmsIds).build())
+                .stream()
+                .collect(Collectors.toMap(FilmDto::id, Function.identity()));
+    }
+
+    private Row readRow(int lineNumber, String line) {
+        try {
+            var createScreening = objectMapper.readValue(line, CreateScreening.class);
+            var violations = validator.validate(createScreening);
+            if (!violations.isEmpty()) {
+                var error = violations
+                        .stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                return new Row(lineNumber, null, error);
+            }
+            return new Row(lineNumber, createScreening, null);
+        } catch (JsonProcessingException exception) {
+            return new Row(lineNumber, null, "Invalid JSON");
+        }
+    }
+
+    private record Row(int line, CreateScreening command, String error) {
+    }
+}
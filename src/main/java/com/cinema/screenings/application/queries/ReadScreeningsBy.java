@@ -3,7 +3,16 @@ package com.cinema.screenings.application.queries;
 import lombok.Builder;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Builder
-public record ReadScreeningsBy(LocalDate date) {
+public record ReadScreeningsBy(
+        LocalDate date,
+        LocalDateTime from,
+        LocalDateTime to,
+        Long filmId,
+        String roomId,
+        String cursor,
+        Integer size
+) {
 }
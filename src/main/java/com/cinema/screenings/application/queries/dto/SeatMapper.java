@@ -1,9 +1,11 @@
 package com.cinema.screenings.application.queries.dto;
 
 import com.cinema.screenings.domain.Seat;
+import com.cinema.screenings.domain.SeatView;
 import org.mapstruct.Mapper;
 
 @Mapper
 public interface SeatMapper {
     SeatDto toDto(Seat seat);
+    SeatDto toDto(SeatView seatView);
 }
@@ -0,0 +1,42 @@
+package com.cinema.screenings.application.queries.handlers;
+
+import com.cinema.films.application.queries.ReadFilms;
+import com.cinema.films.application.queries.dto.FilmDto;
+import com.cinema.films.application.queries.handlers.ReadFilmsHandler;
+import com.cinema.films.domain.exceptions.FilmNotFoundException;
+import com.cinema.screenings.domain.Screening;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+class FilmsTitlesReader {
+
+    private final ReadFilmsHandler readFilmsHandler;
+
+    Map<Long, String> read(Collection<Screening> screenings) {
+        var filmsIds = screenings
+                .stream()
+                .map(Screening::getFilmId)
+                .collect(Collectors.toSet());
+        if (filmsIds.isEmpty()) {
+            return Map.of();
+        }
+        var readFilms = ReadFilms
+                .builder()
+                .ids(filmsIds)
+                .build();
+        var filmsTitles = readFilmsHandler
+                .handle(readFilms)
+                .stream()
+                .collect(Collectors.toMap(FilmDto::id, FilmDto::title));
+        if (!filmsTitles.keySet().containsAll(filmsIds)) {
+            throw new FilmNotFoundException();
+        }
+        return filmsTitles;
+    }
+}
@@ -1,7 +1,5 @@
 package com.cinema.screenings.application.queries.handlers;
 
-import com.cinema.films.application.queries.handlers.ReadFilmHandler;
-import com.cinema.films.application.queries.ReadFilm;
 import com.cinema.screenings.application.queries.dto.ScreeningDto;
 import com.cinema.screenings.application.queries.dto.ScreeningMapper;
 import com.cinema.screenings.application.queries.ReadScreening;
@@ -11,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -18,16 +18,15 @@ public class ReadScreeningHandler {
 
     private final ScreeningRepository screeningRepository;
     private final ScreeningMapper screeningMapper;
-    private final ReadFilmHandler readFilmHandler;
+    private final FilmsTitlesReader filmsTitlesReader;
 
     public ScreeningDto handle(ReadScreening query) {
-        log.info("Query:{}", query);
+        log.debug("Query:{}", query);
         return screeningRepository
                 .readById(query.id())
                 .map(screening -> {
-                    var readFilm = new ReadFilm(screening.getFilmId());
-                    var filmDto = readFilmHandler.handle(readFilm);
-                    return screeningMapper.mapToDto(screening, filmDto.title());
+                    var filmsTitles = filmsTitlesReader.read(List.of(screening));
+                    return screeningMapper.mapToDto(screening, filmsTitles.get(screening.getFilmId()));
                 })
                 .orElseThrow(ScreeningNotFoundException::new);
     }
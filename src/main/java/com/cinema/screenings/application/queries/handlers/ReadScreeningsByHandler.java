@@ -1,40 +1,46 @@
 package com.cinema.screenings.application.queries.handlers;
 
-import com.cinema.films.application.queries.handlers.ReadFilmHandler;
-import com.cinema.films.application.queries.ReadFilm;
 import com.cinema.screenings.application.queries.dto.ScreeningDto;
 import com.cinema.screenings.application.queries.dto.ScreeningMapper;
 import com.cinema.screenings.application.queries.ReadScreeningsBy;
 import com.cinema.screenings.domain.Screening;
 import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.shared.pagination.KeysetCursor;
+import com.cinema.shared.pagination.KeysetPage;
+import com.cinema.shared.pagination.PageSize;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
-import static java.util.Comparator.comparing;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReadScreeningsByHandler {
 
     private final ScreeningRepository screeningRepository;
-    private final ReadFilmHandler readFilmHandler;
+    private final FilmsTitlesReader filmsTitlesReader;
     private final ScreeningMapper screeningMapper;
 
-    public List<ScreeningDto> handle(ReadScreeningsBy query) {
-        log.info("Query:{}", query);
-        return screeningRepository
-                .readAllBy(query)
+    public KeysetPage<ScreeningDto> handle(ReadScreeningsBy query) {
+        log.debug("Query:{}", query);
+        var after = query.cursor() == null ? null : KeysetCursor.decode(query.cursor());
+        var size = PageSize.of(query.size());
+        var screenings = screeningRepository.readAllBy(query, after, size + 1);
+        return KeysetPage
+                .of(screenings, size, screening -> new KeysetCursor(screening.getDate(), screening.getId()))
+                .map(this::mapToDtos);
+    }
+
+    private List<ScreeningDto> mapToDtos(List<Screening> screenings) {
+        var filmsTitles = filmsTitlesReader.read(screenings);
+        return screenings
                 .stream()
-                .sorted(comparing(Screening::getDate))
-                .map(screening -> {
-                    var readFilm = new ReadFilm(screening.getFilmId());
-                    var filmDto = readFilmHandler.handle(readFilm);
-                    return screeningMapper.mapToDto(screening, filmDto.title());
-                })
+                .map(screening -> screeningMapper.mapToDto(
+                        screening,
+                        filmsTitles.get(screening.getFilmId())
+                ))
                 .toList();
     }
 }
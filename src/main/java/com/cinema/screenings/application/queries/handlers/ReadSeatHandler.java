@@ -3,27 +3,35 @@ package com.cinema.screenings.application.queries.handlers;
 import com.cinema.screenings.application.queries.dto.SeatDto;
 import com.cinema.screenings.application.queries.dto.SeatMapper;
 import com.cinema.screenings.application.queries.ReadSeat;
-import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.SeatHoldRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
 import com.cinema.screenings.domain.exceptions.ScreeningNotFoundException;
 import com.cinema.screenings.domain.exceptions.SeatNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReadSeatHandler {
 
-    private final ScreeningRepository screeningRepository;
+    private final SeatMapRepository seatMapRepository;
+    private final SeatHoldRepository seatHoldRepository;
     private final SeatMapper seatMapper;
+    private final Clock clock;
 
     public SeatDto handle(ReadSeat query) {
-        log.info("Query:{}", query);
-        return screeningRepository
-                .readById(query.screeningId())
+        log.debug("Query:{}", query);
+        var heldSeatsIds = seatHoldRepository.readHeldSeatsIds(query.screeningId(), LocalDateTime.now(clock));
+        return seatMapRepository
+                .readByScreeningId(query.screeningId())
                 .orElseThrow(ScreeningNotFoundException::new)
                 .findSeat(query.seatId())
+                .map(seat -> seat.withHolds(heldSeatsIds))
                 .map(seatMapper::toDto)
                 .orElseThrow(SeatNotFoundException::new);
     }
@@ -3,12 +3,15 @@ package com.cinema.screenings.application.queries.handlers;
 import com.cinema.screenings.application.queries.dto.SeatDto;
 import com.cinema.screenings.application.queries.dto.SeatMapper;
 import com.cinema.screenings.application.queries.ReadSeatsByScreeningId;
-import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.SeatHoldRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
 import com.cinema.screenings.domain.exceptions.ScreeningNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
@@ -16,16 +19,20 @@ import java.util.List;
 @Slf4j
 public class ReadSeatsByScreeningIdHandler {
 
-    private final ScreeningRepository screeningRepository;
+    private final SeatMapRepository seatMapRepository;
+    private final SeatHoldRepository seatHoldRepository;
     private final SeatMapper seatMapper;
+    private final Clock clock;
 
     public List<SeatDto> handle(ReadSeatsByScreeningId query) {
-        log.info("Query:{}", query);
-        return screeningRepository
-                .readById(query.screeningId())
+        log.debug("Query:{}", query);
+        var heldSeatsIds = seatHoldRepository.readHeldSeatsIds(query.screeningId(), LocalDateTime.now(clock));
+        return seatMapRepository
+                .readByScreeningId(query.screeningId())
                 .orElseThrow(ScreeningNotFoundException::new)
                 .getSeats()
                 .stream()
+                .map(seat -> seat.withHolds(heldSeatsIds))
                 .map(seatMapper::toDto)
                 .toList();
     }
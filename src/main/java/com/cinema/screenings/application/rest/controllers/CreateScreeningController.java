@@ -31,10 +31,10 @@ class CreateScreeningController {
             @Valid
             CreateScreening command
     ) {
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         createScreeningHandler.handle(command);
         var responseEntity = ResponseEntity.created(URI.create("/screenings")).build();
-        log.info("Response entity:{}", responseEntity);
+        log.debug("Response entity:{}", responseEntity);
         return responseEntity;
     }
 }
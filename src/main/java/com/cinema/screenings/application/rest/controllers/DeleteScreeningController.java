@@ -25,10 +25,10 @@ class DeleteScreeningController {
     @SecurityRequirement(name = "basic")
     ResponseEntity<Object> deleteScreening(@PathVariable Long id) {
         var command = new DeleteScreening(id);
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         deleteScreeningHandler.handle(command);
         var responseEntity = ResponseEntity.noContent().build();
-        log.info("Response entity:{}", responseEntity);
+        log.debug("Response entity:{}", responseEntity);
         return responseEntity;
     }
 }
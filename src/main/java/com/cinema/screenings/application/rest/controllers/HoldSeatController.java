@@ -0,0 +1,34 @@
+package com.cinema.screenings.application.rest.controllers;
+
+import com.cinema.screenings.application.commands.HoldSeat;
+import com.cinema.screenings.application.commands.handlers.HoldSeatHandler;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/screenings")
+@Tag(name = "screenings")
+@RequiredArgsConstructor
+@Slf4j
+class HoldSeatController {
+
+    private final HoldSeatHandler holdSeatHandler;
+
+    @PostMapping("/{screeningId}/seats/{seatId}/hold")
+    @SecurityRequirement(name = "basic")
+    ResponseEntity<Object> holdSeat(@PathVariable Long screeningId, @PathVariable Long seatId) {
+        var command = new HoldSeat(screeningId, seatId);
+        log.debug("Command:{}", command);
+        holdSeatHandler.handle(command);
+        var responseEntity = ResponseEntity.ok().build();
+        log.debug("Response entity:{}", responseEntity);
+        return responseEntity;
+    }
+}
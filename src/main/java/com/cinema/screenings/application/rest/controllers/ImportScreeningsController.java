@@ -0,0 +1,32 @@
+package com.cinema.screenings.application.rest.controllers;
+
+import com.cinema.screenings.application.commands.ImportScreenings;
+import com.cinema.screenings.application.commands.dto.ScreeningImportResultDto;
+import com.cinema.screenings.application.commands.handlers.ImportScreeningsHandler;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/screenings")
+@Tag(name = "screenings")
+@RequiredArgsConstructor
+@Slf4j
+class ImportScreeningsController {
+
+    private final ImportScreeningsHandler importScreeningsHandler;
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @SecurityRequirement(name = "basic")
+    List<ScreeningImportResultDto> importScreenings(InputStream input) {
+        return importScreeningsHandler.handle(new ImportScreenings(input));
+    }
+}
@@ -3,15 +3,19 @@ package com.cinema.screenings.application.rest.controllers;
 import com.cinema.screenings.application.queries.ReadScreeningsBy;
 import com.cinema.screenings.application.queries.dto.ScreeningDto;
 import com.cinema.screenings.application.queries.handlers.ReadScreeningsByHandler;
+import com.cinema.shared.pagination.KeysetPage;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,12 +28,31 @@ class ReadScreeningController {
     private final ReadScreeningsByHandler readScreeningsByHandler;
 
     @GetMapping
-    List<ScreeningDto> readScreeningsBy(@RequestParam(required = false) LocalDate date) {
+    ResponseEntity<List<ScreeningDto>> readScreeningsBy(
+            @RequestParam(required = false) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long filmId,
+            @RequestParam(required = false) String roomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
         var query = ReadScreeningsBy
                 .builder()
                 .date(date)
+                .from(from)
+                .to(to)
+                .filmId(filmId)
+                .roomId(roomId)
+                .cursor(cursor)
+                .size(size)
                 .build();
-        log.info("Query:{}", query);
-        return readScreeningsByHandler.handle(query);
+        log.debug("Query:{}", query);
+        var page = readScreeningsByHandler.handle(query);
+        var responseBuilder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            responseBuilder.header(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return responseBuilder.body(page.items());
     }
 }
@@ -25,7 +25,7 @@ public class ReadSeatsController {
     @GetMapping("/{id}/seats")
     List<SeatDto> readSeatsByScreeningId(@PathVariable Long id) {
         var query = new ReadSeatsByScreeningId(id);
-        log.info("Query:{}", query);
+        log.debug("Query:{}", query);
         return readSeatsByScreeningIdHandler.handle(query);
     }
 }
@@ -0,0 +1,18 @@
+package com.cinema.screenings.application.rest.exception_handlers;
+
+import com.cinema.screenings.domain.exceptions.SeatNotAvailableException;
+import com.cinema.shared.exceptions.ExceptionMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class SeatNotAvailableExceptionHandler {
+
+    @ExceptionHandler(SeatNotAvailableException.class)
+    ResponseEntity<ExceptionMessage> handle(SeatNotAvailableException exception) {
+        var exceptionMessage = new ExceptionMessage(exception.getMessage());
+        return new ResponseEntity<>(exceptionMessage, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
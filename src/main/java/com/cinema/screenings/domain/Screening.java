@@ -27,23 +27,27 @@ public class Screening {
 
     private LocalDateTime date;
 
+    private LocalDateTime endDate;
+
     private Long filmId;
 
     private String roomId;
 
     @OneToMany(cascade = CascadeType.ALL)
-    @JoinColumn(name = "screening_id")
+    @JoinColumn(name = "screening_id", nullable = false)
     private List<Seat> seats;
 
     protected Screening() {}
 
     public Screening(
             LocalDateTime date,
+            LocalDateTime endDate,
             Long filmId,
             String roomId,
             List<Seat> seats
     ) {
         this.date = date;
+        this.endDate = endDate;
         this.filmId = filmId;
         this.roomId = roomId;
         this.seats = seats;
@@ -1,14 +1,16 @@
 package com.cinema.screenings.domain;
 
 import com.cinema.screenings.application.queries.ReadScreeningsBy;
+import com.cinema.shared.pagination.KeysetCursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ScreeningRepository {
     Screening add(Screening screening);
     void delete(Screening screening);
-    List<Screening> readAllBy(ReadScreeningsBy query);
-    List<Screening> readWithRoom();
+    List<Screening> readAllBy(ReadScreeningsBy query, KeysetCursor after, int limit);
+    List<Screening> readEndedWithRoom(LocalDateTime now, int limit);
     Optional<Screening> readById(Long id);
 }
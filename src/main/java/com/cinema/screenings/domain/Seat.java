@@ -1,11 +1,13 @@
 package com.cinema.screenings.domain;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.ToString;
@@ -16,8 +18,10 @@ import lombok.ToString;
 @ToString
 public class Seat {
 
+    /** Ids are allocated in blocks, so Hibernate can batch the inserts of all seats of a new screening */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seats_id_generator")
+    @SequenceGenerator(name = "seats_id_generator", sequenceName = "seats_id_seq", allocationSize = 50)
     private Long id;
 
     private int rowNumber;
@@ -27,6 +31,9 @@ public class Seat {
     @Enumerated(value = EnumType.STRING)
     private SeatStatus status;
 
+    @Column(name = "screening_id", insertable = false, updatable = false)
+    private Long screeningId;
+
     protected Seat() {
     }
 
@@ -0,0 +1,14 @@
+package com.cinema.screenings.domain;
+
+import java.time.LocalDateTime;
+
+public record SeatHold(Long screeningId, Long seatId, Long userId, LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean belongsTo(Long userId) {
+        return this.userId.equals(userId);
+    }
+}
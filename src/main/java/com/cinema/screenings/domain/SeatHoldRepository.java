@@ -0,0 +1,15 @@
+package com.cinema.screenings.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+public interface SeatHoldRepository {
+    /** @return false if the seat is held by another user */
+    boolean add(SeatHold seatHold, LocalDateTime now);
+    Optional<SeatHold> readBy(Long screeningId, Long seatId, LocalDateTime now);
+    Set<Long> readHeldSeatsIds(Long screeningId, LocalDateTime now);
+    void delete(SeatHold seatHold);
+    void deleteAllByScreeningId(Long screeningId);
+    int deleteAllExpired(LocalDateTime now);
+}
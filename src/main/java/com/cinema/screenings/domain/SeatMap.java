@@ -0,0 +1,137 @@
+package com.cinema.screenings.domain;
+
+import com.cinema.screenings.domain.exceptions.SeatNotFoundException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** Seats of one screening as a bitset indexed by (row number, seat number) */
+public class SeatMap {
+
+    private static final int WORD_SIZE = Long.SIZE;
+
+    private final Long screeningId;
+
+    private final int rowSeatsNumber;
+
+    /** Seat id for each (row, number) index, 0 if there is no seat */
+    private final long[] seatsIds;
+
+    private final Map<Long, Integer> indexesBySeatId;
+
+    private final AtomicLongArray takenSeats;
+
+    public SeatMap(Long screeningId, List<SeatView> seats) {
+        this.screeningId = screeningId;
+        var rowsNumber = seats
+                .stream()
+                .mapToInt(SeatView::rowNumber)
+                .max()
+                .orElse(0);
+        this.rowSeatsNumber = seats
+                .stream()
+                .mapToInt(SeatView::number)
+                .max()
+                .orElse(0);
+        var size = rowsNumber * rowSeatsNumber;
+        this.seatsIds = new long[size];
+        this.indexesBySeatId = new HashMap<>(seats.size() * 2);
+        this.takenSeats = new AtomicLongArray((size + WORD_SIZE - 1) / WORD_SIZE);
+        seats.forEach(seat -> {
+            var index = indexOf(seat.rowNumber(), seat.number());
+            seatsIds[index] = seat.id();
+            indexesBySeatId.put(seat.id(), index);
+            if (seat.status() == SeatStatus.TAKEN) {
+                setBit(takenSeats, index);
+            }
+        });
+    }
+
+    public Long getScreeningId() {
+        return screeningId;
+    }
+
+    public boolean hasSeat(Long seatId) {
+        return indexesBySeatId.containsKey(seatId);
+    }
+
+    public Optional<SeatView> findSeat(Long seatId) {
+        return Optional
+                .ofNullable(indexesBySeatId.get(seatId))
+                .map(this::seatAt);
+    }
+
+    public Optional<SeatView> findSeat(int rowNumber, int number) {
+        if (rowNumber < 1 || number < 1 || number > rowSeatsNumber) {
+            return Optional.empty();
+        }
+        var index = indexOf(rowNumber, number);
+        if (index >= seatsIds.length || seatsIds[index] == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(seatAt(index));
+    }
+
+    public List<SeatView> getSeats() {
+        var seats = new ArrayList<SeatView>(indexesBySeatId.size());
+        for (var index = 0; index < seatsIds.length; index++) {
+            if (seatsIds[index] != 0) {
+                seats.add(seatAt(index));
+            }
+        }
+        return seats;
+    }
+
+    /** @return false if the seat was already taken */
+    public boolean take(Long seatId) {
+        return setBit(takenSeats, indexOfSeat(seatId));
+    }
+
+    /** @return false if the seat was already free */
+    public boolean free(Long seatId) {
+        return clearBit(takenSeats, indexOfSeat(seatId));
+    }
+
+    private SeatView seatAt(int index) {
+        return new SeatView(
+                seatsIds[index],
+                index / rowSeatsNumber + 1,
+                index % rowSeatsNumber + 1,
+                isBitSet(takenSeats, index) ? SeatStatus.TAKEN : SeatStatus.FREE
+        );
+    }
+
+    private int indexOf(int rowNumber, int number) {
+        return (rowNumber - 1) * rowSeatsNumber + (number - 1);
+    }
+
+    private int indexOfSeat(Long seatId) {
+        var index = indexesBySeatId.get(seatId);
+        if (index == null) {
+            throw new SeatNotFoundException();
+        }
+        return index;
+    }
+
+    private static boolean isBitSet(AtomicLongArray bits, int index) {
+        return (bits.get(index / WORD_SIZE) & bitMask(index)) != 0;
+    }
+
+    private static boolean setBit(AtomicLongArray bits, int index) {
+        var previousWord = bits.getAndAccumulate(index / WORD_SIZE, bitMask(index), (word, mask) -> word | mask);
+        return (previousWord & bitMask(index)) == 0;
+    }
+
+    private static boolean clearBit(AtomicLongArray bits, int index) {
+        var previousWord = bits.getAndAccumulate(index / WORD_SIZE, bitMask(index), (word, mask) -> word & ~mask);
+        return (previousWord & bitMask(index)) != 0;
+    }
+
+    private static long bitMask(int index) {
+        return 1L << (index % WORD_SIZE);
+    }
+}
@@ -0,0 +1,11 @@
+package com.cinema.screenings.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SeatMapRepository {
+    Optional<SeatMap> readByScreeningId(Long screeningId);
+    boolean updateSeatStatus(Long screeningId, Long seatId, SeatStatus currentStatus, SeatStatus newStatus);
+    int updateSeatsStatus(Long screeningId, List<Long> seatsIds, SeatStatus currentStatus, SeatStatus newStatus);
+    void evict(Long screeningId);
+}
@@ -2,5 +2,6 @@ package com.cinema.screenings.domain;
 
 public enum SeatStatus {
     FREE,
+    HELD,
     TAKEN
 }
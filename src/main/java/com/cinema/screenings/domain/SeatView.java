@@ -0,0 +1,18 @@
+package com.cinema.screenings.domain;
+
+import java.util.Set;
+
+public record SeatView(
+        Long id,
+        int rowNumber,
+        int number,
+        SeatStatus status
+) {
+
+    public SeatView withHolds(Set<Long> heldSeatsIds) {
+        if (status == SeatStatus.FREE && heldSeatsIds.contains(id)) {
+            return new SeatView(id, rowNumber, number, SeatStatus.HELD);
+        }
+        return this;
+    }
+}
@@ -1,9 +1,16 @@
 package com.cinema.screenings.domain.events;
 
+import com.cinema.shared.events.AsyncEvent;
+
 import java.time.LocalDateTime;
 
 public record ScreeningEndedEvent(
         LocalDateTime screeningDate,
         String roomId
-) {
+) implements AsyncEvent {
+
+    @Override
+    public String aggregateId() {
+        return "room-" + roomId;
+    }
 }
@@ -0,0 +1,8 @@
+package com.cinema.screenings.domain.exceptions;
+
+public class SeatNotAvailableException extends RuntimeException {
+
+    public SeatNotAvailableException() {
+        super("Seat not available");
+    }
+}
@@ -0,0 +1,123 @@
+package com.cinema.screenings.infrastructure.db;
+
+import com.cinema.screenings.domain.Seat;
+import com.cinema.screenings.domain.SeatMap;
+import com.cinema.screenings.domain.SeatMapRepository;
+import com.cinema.screenings.domain.SeatStatus;
+import com.cinema.screenings.domain.SeatView;
+import com.cinema.shared.transactions.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+class CachingSeatMapAdapter implements SeatMapRepository {
+
+    private final JpaSeatRepository jpaSeatRepository;
+    private final JpaScreeningRepository jpaScreeningRepository;
+    private final Cache<Long, SeatMap> seatMaps;
+
+    CachingSeatMapAdapter(
+            JpaSeatRepository jpaSeatRepository,
+            JpaScreeningRepository jpaScreeningRepository,
+            MeterRegistry meterRegistry,
+            @Value("${screenings.seatMapTtlInSeconds}") long seatMapTtlInSeconds,
+            @Value("${screenings.seatMapCacheMaxSize}") long seatMapCacheMaxSize
+    ) {
+        this.jpaSeatRepository = jpaSeatRepository;
+        this.jpaScreeningRepository = jpaScreeningRepository;
+        this.seatMaps = Caffeine
+                .newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(seatMapTtlInSeconds))
+                .maximumSize(seatMapCacheMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, seatMaps, "seatMaps");
+    }
+
+    /** Updates committed during the load wait for it and are applied to the loaded map, so it cannot be stale */
+    @Override
+    public Optional<SeatMap> readByScreeningId(Long screeningId) {
+        return Optional.ofNullable(seatMaps.get(screeningId, id -> load(id).orElse(null)));
+    }
+
+    @Override
+    public boolean updateSeatStatus(Long screeningId, Long seatId, SeatStatus currentStatus, SeatStatus newStatus) {
+        return updateSeatsStatus(screeningId, List.of(seatId), currentStatus, newStatus) == 1;
+    }
+
+    @Override
+    public int updateSeatsStatus(
+            Long screeningId,
+            List<Long> seatsIds,
+            SeatStatus currentStatus,
+            SeatStatus newStatus
+    ) {
+        var updatedSeatsNumber = jpaSeatRepository.updateStatus(screeningId, seatsIds, currentStatus, newStatus);
+        if (updatedSeatsNumber == 0) {
+            return 0;
+        }
+        AfterCommit.run(() -> seatMaps
+                .asMap()
+                .computeIfPresent(screeningId, (id, seatMap) -> {
+                    seatsIds.forEach(seatId -> {
+                        if (newStatus == SeatStatus.TAKEN) {
+                            seatMap.take(seatId);
+                        } else {
+                            seatMap.free(seatId);
+                        }
+                    });
+                    return seatMap;
+                })
+        );
+        return updatedSeatsNumber;
+    }
+
+    @Override
+    public void evict(Long screeningId) {
+        seatMaps.invalidate(screeningId);
+    }
+
+    private Optional<SeatMap> load(Long screeningId) {
+        var seats = jpaSeatRepository.findAllViewsByScreeningId(screeningId);
+        if (seats.isEmpty() && !jpaScreeningRepository.existsById(screeningId)) {
+            return Optional.empty();
+        }
+        return Optional.of(new SeatMap(screeningId, seats));
+    }
+}
+
+interface JpaSeatRepository extends JpaRepository<Seat, Long> {
+
+    @Query("""
+            select new com.cinema.screenings.domain.SeatView(s.id, s.rowNumber, s.number, s.status)
+            from Seat s
+            where s.screeningId = :screeningId
+            order by s.rowNumber, s.number
+            """)
+    List<SeatView> findAllViewsByScreeningId(@Param("screeningId") Long screeningId);
+
+    @Modifying
+    @Query("""
+            update Seat s
+            set s.status = :newStatus
+            where s.id in :seatsIds and s.screeningId = :screeningId and s.status = :currentStatus
+            """)
+    int updateStatus(
+            @Param("screeningId") Long screeningId,
+            @Param("seatsIds") List<Long> seatsIds,
+            @Param("currentStatus") SeatStatus currentStatus,
+            @Param("newStatus") SeatStatus newStatus
+    );
+}
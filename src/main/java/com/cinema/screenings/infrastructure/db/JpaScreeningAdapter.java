@@ -3,13 +3,27 @@ package com.cinema.screenings.infrastructure.db;
 import com.cinema.screenings.application.queries.ReadScreeningsBy;
 import com.cinema.screenings.domain.Screening;
 import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.SeatHoldRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
+import com.cinema.shared.pagination.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,15 +32,22 @@ import java.util.Optional;
 public class JpaScreeningAdapter implements ScreeningRepository {
 
     private final JpaScreeningRepository jpaScreeningRepository;
+    private final SeatMapRepository seatMapRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Screening add(Screening screening) {
-        return jpaScreeningRepository.save(screening);
+        var addedScreening = jpaScreeningRepository.save(screening);
+        seatMapRepository.evict(addedScreening.getId());
+        return addedScreening;
     }
 
     @Override
     public void delete(Screening screening) {
         jpaScreeningRepository.delete(screening);
+        seatMapRepository.evict(screening.getId());
+        seatHoldRepository.deleteAllByScreeningId(screening.getId());
     }
 
     @Override
@@ -35,30 +56,67 @@ public class JpaScreeningAdapter implements ScreeningRepository {
     }
 
     @Override
-    public List<Screening> readWithRoom() {
-        return jpaScreeningRepository.findEndedWithRoom();
+    public List<Screening> readEndedWithRoom(LocalDateTime now, int limit) {
+        return jpaScreeningRepository.findEndedWithRoom(now, PageRequest.ofSize(limit));
     }
 
     @Override
-    public List<Screening> readAllBy(ReadScreeningsBy query) {
-        return jpaScreeningRepository.findAll(
-                dateSpec(query)
-        );
-    }
-
-    private static Specification<Screening> dateSpec(ReadScreeningsBy query) {
-        return (root, jpaQuery, criteriaBuilder) -> query.date() == null ?
-                        criteriaBuilder.conjunction() :
-                        criteriaBuilder.between(
-                                root.get("date"),
-                                query.date(),
-                                query.date().plusDays(1)
-                        );
+    public List<Screening> readAllBy(ReadScreeningsBy query, KeysetCursor after, int limit) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(Screening.class);
+        var root = criteriaQuery.from(Screening.class);
+        var predicates = new ArrayList<Predicate>();
+        if (query.date() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("date"), query.date().atStartOfDay()));
+            predicates.add(criteriaBuilder.lessThan(root.get("date"), query.date().plusDays(1).atStartOfDay()));
+        }
+        if (query.from() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("date"), query.from()));
+        }
+        if (query.to() != null) {
+            predicates.add(criteriaBuilder.lessThan(root.get("date"), query.to()));
+        }
+        if (query.filmId() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("filmId"), query.filmId()));
+        }
+        if (query.roomId() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("roomId"), query.roomId()));
+        }
+        if (after != null) {
+            predicates.add(
+                    criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(root.get("date"), after.date()),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(root.get("date"), after.date()),
+                                    criteriaBuilder.greaterThan(root.get("id"), after.id())
+                            )
+                    )
+            );
+        }
+        criteriaQuery
+                .select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(
+                        criteriaBuilder.asc(root.get("date")),
+                        criteriaBuilder.asc(root.get("id"))
+                );
+        return entityManager
+                .createQuery(criteriaQuery)
+                .setMaxResults(limit)
+                .getResultList();
     }
 }
 
-interface JpaScreeningRepository extends JpaRepository<Screening, Long>, JpaSpecificationExecutor<Screening> {
+interface JpaScreeningRepository extends JpaRepository<Screening, Long> {
 
-    @Query("select s from Screening s where s.roomId is not null")
-    List<Screening> findEndedWithRoom();
+    /** Rows locked by a sweep on another instance are skipped, so instances share the work without duplicates */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("""
+            select s
+            from Screening s
+            where s.roomId is not null and s.endDate < :now
+            order by s.endDate, s.id
+            """)
+    List<Screening> findEndedWithRoom(@Param("now") LocalDateTime now, Pageable pageable);
 }
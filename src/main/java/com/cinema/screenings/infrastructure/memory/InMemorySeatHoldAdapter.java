@@ -0,0 +1,111 @@
+package com.cinema.screenings.infrastructure.memory;
+
+import com.cinema.screenings.domain.SeatHold;
+import com.cinema.screenings.domain.SeatHoldRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Repository
+class InMemorySeatHoldAdapter implements SeatHoldRepository {
+
+    private static final Comparator<SeatHold> EXPIRY_ORDER = Comparator
+            .comparing(SeatHold::expiresAt)
+            .thenComparing(SeatHold::screeningId)
+            .thenComparing(SeatHold::seatId)
+            .thenComparing(SeatHold::userId);
+
+    private final Map<Long, Map<Long, SeatHold>> holdsByScreeningId = new ConcurrentHashMap<>();
+
+    /** Holds ordered by expiry date, so expired ones are released without scanning all seats */
+    private final NavigableSet<SeatHold> holdsByExpiry = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+
+    @Override
+    public boolean add(SeatHold seatHold, LocalDateTime now) {
+        var screeningHolds = holdsByScreeningId.computeIfAbsent(
+                seatHold.screeningId(),
+                screeningId -> new ConcurrentHashMap<>()
+        );
+        var replacedHold = new AtomicReference<SeatHold>();
+        var currentHold = screeningHolds.compute(seatHold.seatId(), (seatId, existingHold) -> {
+            if (existingHold == null || existingHold.isExpired(now) || existingHold.belongsTo(seatHold.userId())) {
+                replacedHold.set(existingHold);
+                return seatHold;
+            }
+            return existingHold;
+        });
+        if (currentHold != seatHold) {
+            return false;
+        }
+        if (replacedHold.get() != null) {
+            holdsByExpiry.remove(replacedHold.get());
+        }
+        holdsByExpiry.add(seatHold);
+        return true;
+    }
+
+    @Override
+    public Optional<SeatHold> readBy(Long screeningId, Long seatId, LocalDateTime now) {
+        return Optional
+                .ofNullable(holdsByScreeningId.get(screeningId))
+                .map(screeningHolds -> screeningHolds.get(seatId))
+                .filter(seatHold -> !seatHold.isExpired(now));
+    }
+
+    @Override
+    public Set<Long> readHeldSeatsIds(Long screeningId, LocalDateTime now) {
+        var screeningHolds = holdsByScreeningId.get(screeningId);
+        if (screeningHolds == null) {
+            return Set.of();
+        }
+        return screeningHolds
+                .values()
+                .stream()
+                .filter(seatHold -> !seatHold.isExpired(now))
+                .map(SeatHold::seatId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void delete(SeatHold seatHold) {
+        var screeningHolds = holdsByScreeningId.get(seatHold.screeningId());
+        if (screeningHolds != null && screeningHolds.remove(seatHold.seatId(), seatHold)) {
+            holdsByExpiry.remove(seatHold);
+        }
+    }
+
+    @Override
+    public void deleteAllByScreeningId(Long screeningId) {
+        var screeningHolds = holdsByScreeningId.remove(screeningId);
+        if (screeningHolds != null) {
+            screeningHolds.values().forEach(holdsByExpiry::remove);
+        }
+    }
+
+    @Override
+    public int deleteAllExpired(LocalDateTime now) {
+        var deletedHoldsNumber = 0;
+        var iterator = holdsByExpiry.iterator();
+        while (iterator.hasNext()) {
+            var seatHold = iterator.next();
+            if (!seatHold.isExpired(now)) {
+                break;
+            }
+            iterator.remove();
+            var screeningHolds = holdsByScreeningId.get(seatHold.screeningId());
+            if (screeningHolds != null && screeningHolds.remove(seatHold.seatId(), seatHold)) {
+                deletedHoldsNumber++;
+            }
+        }
+        return deletedHoldsNumber;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cinema.shared.db;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /** Checks the database error messages, as batch and exclusion constraint errors carry no constraint name */
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        var quotedConstraintName = "\"" + constraintName + "\"";
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (mentions(cause, quotedConstraintName)) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException) {
+                for (var next = sqlException.getNextException(); next != null; next = next.getNextException()) {
+                    if (mentions(next, quotedConstraintName)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean mentions(Throwable throwable, String text) {
+        return throwable.getMessage() != null && throwable.getMessage().contains(text);
+    }
+}
@@ -0,0 +1,6 @@
+package com.cinema.shared.events;
+
+/** Event whose listeners do not have to run in the publishing transaction */
+public interface AsyncEvent {
+    String aggregateId();
+}
@@ -1,10 +1,12 @@
 package com.cinema.shared.events;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "events.outbox.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 class SpringEventPublisher implements EventPublisher {
 
@@ -0,0 +1,48 @@
+package com.cinema.shared.events.outbox;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@ToString(exclude = "payload")
+class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String aggregateId;
+
+    private String type;
+
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    private int attempts;
+
+    private String lastError;
+
+    private LocalDateTime failedAt;
+
+    protected OutboxEvent() {
+    }
+
+    OutboxEvent(String aggregateId, String type, String payload, LocalDateTime createdAt) {
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,46 @@
+package com.cinema.shared.events.outbox;
+
+import com.cinema.shared.events.AsyncEvent;
+import com.cinema.shared.events.EventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/** Stores async events in the outbox table in the caller transaction */
+@Component
+@ConditionalOnProperty(name = "events.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+class OutboxEventPublisher implements EventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Override
+    @Transactional
+    public void publish(Object event) {
+        if (!(event instanceof AsyncEvent asyncEvent)) {
+            applicationEventPublisher.publishEvent(event);
+            return;
+        }
+        try {
+            var outboxEvent = new OutboxEvent(
+                    asyncEvent.aggregateId(),
+                    event.getClass().getName(),
+                    objectMapper.writeValueAsString(event),
+                    LocalDateTime.now(clock)
+            );
+            outboxEventRepository.save(outboxEvent);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
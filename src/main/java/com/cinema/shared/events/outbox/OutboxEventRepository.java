@@ -0,0 +1,60 @@
+package com.cinema.shared.events.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /** Events with an earlier pending event of the same aggregate wait, events locked by other relays are skipped */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("""
+            select e
+            from OutboxEvent e
+            where e.publishedAt is null and e.failedAt is null and e.id > :afterId
+            and not exists (
+                select earlier.id
+                from OutboxEvent earlier
+                where earlier.aggregateId = e.aggregateId
+                and earlier.publishedAt is null
+                and earlier.failedAt is null
+                and earlier.id < e.id
+            )
+            order by e.id
+            """)
+    List<OutboxEvent> findNextPending(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    void markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /** The last allowed attempt sets failedAt, so the event stops holding back later events of its aggregate */
+    @Transactional
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.attempts = e.attempts + 1,
+                e.lastError = :lastError,
+                e.failedAt = case when e.attempts + 1 >= :maxAttempts then :failedAt else null end
+            where e.id = :id
+            """)
+    void markFailed(
+            @Param("id") Long id,
+            @Param("lastError") String lastError,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("failedAt") LocalDateTime failedAt
+    );
+}
@@ -0,0 +1,110 @@
+package com.cinema.shared.events.outbox;
+
+import com.cinema.shared.events.AsyncEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Delivers outbox events in batches, each batch locked, delivered and marked as published in one transaction */
+@Component
+@ConditionalOnProperty(name = "events.outbox.enabled", havingValue = "true")
+@Slf4j
+class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            ApplicationEventPublisher applicationEventPublisher,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            Clock clock,
+            @Value("${events.outbox.batchSize}") int batchSize,
+            @Value("${events.outbox.maxAttempts}") int maxAttempts
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${events.outbox.relayIntervalInMillis}")
+    void relay() {
+        var afterId = Optional.of(0L);
+        while (afterId.isPresent()) {
+            afterId = relayBatch(afterId.get());
+        }
+    }
+
+    /**
+     * A failed event rolls its batch back, the events before it are delivered again with the next relay.
+     *
+     * @return id to continue after, empty if there is nothing more to relay
+     */
+    private Optional<Long> relayBatch(long afterId) {
+        var deliveredEvent = new AtomicReference<OutboxEvent>();
+        try {
+            return transactionTemplate.execute(status -> {
+                var outboxEvents = outboxEventRepository.findNextPending(afterId, PageRequest.ofSize(batchSize));
+                if (outboxEvents.isEmpty()) {
+                    return Optional.empty();
+                }
+                for (var outboxEvent : outboxEvents) {
+                    deliveredEvent.set(outboxEvent);
+                    applicationEventPublisher.publishEvent(deserialize(outboxEvent));
+                }
+                var ids = outboxEvents
+                        .stream()
+                        .map(OutboxEvent::getId)
+                        .toList();
+                outboxEventRepository.markPublished(ids, LocalDateTime.now(clock));
+                return outboxEvents.size() < batchSize ? Optional.empty() : Optional.of(ids.getLast());
+            });
+        } catch (RuntimeException exception) {
+            var failedEvent = deliveredEvent.get();
+            if (failedEvent == null) {
+                throw exception;
+            }
+            outboxEventRepository.markFailed(
+                    failedEvent.getId(),
+                    exception.getMessage(),
+                    maxAttempts,
+                    LocalDateTime.now(clock)
+            );
+            log.warn("Outbox event not delivered:{}", failedEvent, exception);
+            return Optional.of(failedEvent.getId());
+        }
+    }
+
+    private AsyncEvent deserialize(OutboxEvent outboxEvent) {
+        try {
+            var type = Class
+                    .forName(outboxEvent.getType())
+                    .asSubclass(AsyncEvent.class);
+            return objectMapper.readValue(outboxEvent.getPayload(), type);
+        } catch (ClassNotFoundException | JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
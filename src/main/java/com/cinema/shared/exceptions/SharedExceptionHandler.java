@@ -1,5 +1,6 @@
 package com.cinema.shared.exceptions;
 
+import com.cinema.shared.pagination.InvalidCursorException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -22,4 +23,10 @@ class SharedExceptionHandler {
                 .collect(Collectors.toMap(FieldError::getField, FieldError::getDefaultMessage));
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    ResponseEntity<ExceptionMessage> handle(InvalidCursorException exception) {
+        var exceptionMessage = new ExceptionMessage(exception.getMessage());
+        return new ResponseEntity<>(exceptionMessage, HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,27 @@
+package com.cinema.shared.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Passes only the given fraction of events of one logger, before any event is created */
+@Setter
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerName;
+    private double sampleRate = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Level checks come without a format, sampling them too would square the rate
+        if (format == null || !logger.getName().equals(loggerName)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
@@ -0,0 +1,70 @@
+package com.cinema.shared.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/** Measures latency, errors and SQL statements of every handler method, including the commit */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+class HandlerMetricsAspect {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryCountingStatementInspector queryCountingStatementInspector;
+
+    @Around(
+            "execution(public * com.cinema..handlers.*Handler.*(..))" +
+            " || execution(public * com.cinema.*.application.*Handler.*(..))"
+    )
+    Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        var handler = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        var method = joinPoint.getSignature().getName();
+        var queriesBefore = queryCountingStatementInspector.currentThreadCount();
+        var sample = Timer.start(meterRegistry);
+        var exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            Counter
+                    .builder("handler.errors")
+                    .description("Handler invocations finished with exception")
+                    .tag("handler", handler)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .increment();
+            throw throwable;
+        } finally {
+            sample.stop(
+                    Timer
+                            .builder("handler.duration")
+                            .description("Handler invocation time")
+                            .tag("handler", handler)
+                            .tag("method", method)
+                            .tag("outcome", NO_EXCEPTION.equals(exception) ? "success" : "error")
+                            .publishPercentileHistogram()
+                            .register(meterRegistry)
+            );
+            DistributionSummary
+                    .builder("handler.queries")
+                    .description("SQL statements executed by handler invocation")
+                    .tag("handler", handler)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(queryCountingStatementInspector.currentThreadCount() - queriesBefore);
+        }
+    }
+}
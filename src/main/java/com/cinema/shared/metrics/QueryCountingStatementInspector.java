@@ -0,0 +1,32 @@
+package com.cinema.shared.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/** Counts SQL statements prepared by Hibernate in the current thread, set first so other customizers can wrap it */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class QueryCountingStatementInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<long[]> COUNTER = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTER.get()[0]++;
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put("hibernate.session_factory.statement_inspector", this);
+    }
+
+    long currentThreadCount() {
+        return COUNTER.get()[0];
+    }
+}
@@ -0,0 +1,8 @@
+package com.cinema.shared.pagination;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException() {
+        super("Invalid cursor");
+    }
+}
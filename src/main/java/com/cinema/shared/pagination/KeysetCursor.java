@@ -0,0 +1,36 @@
+package com.cinema.shared.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/** Position of the last row of a page ordered by (date, id), passed to clients as an opaque token */
+public record KeysetCursor(LocalDateTime date, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        var value = date + SEPARATOR + id;
+        return Base64
+                .getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separatorIndex = value.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidCursorException();
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    Long.valueOf(value.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.cinema.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /** @param rows page rows read with a limit of size + 1 */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        var items = rows.subList(0, size);
+        var nextCursor = cursorOf
+                .apply(items.get(size - 1))
+                .encode();
+        return new KeysetPage<>(items, nextCursor);
+    }
+
+    public <R> KeysetPage<R> map(Function<List<T>, List<R>> mapper) {
+        return new KeysetPage<>(mapper.apply(items), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.cinema.shared.pagination;
+
+public final class PageSize {
+
+    public static final int DEFAULT = 20;
+    public static final int MAX = 100;
+
+    private PageSize() {
+    }
+
+    public static int of(Integer requestedSize) {
+        if (requestedSize == null) {
+            return DEFAULT;
+        }
+        return Math.max(1, Math.min(requestedSize, MAX));
+    }
+}
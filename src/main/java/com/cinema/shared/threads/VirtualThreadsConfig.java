@@ -0,0 +1,39 @@
+package com.cinema.shared.threads;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+class VirtualThreadsConfig {
+
+    @Bean
+    TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    AsyncTaskExecutor virtualThreadsTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    ThreadPoolTaskScheduler virtualThreadsTaskScheduler(TaskSchedulerBuilder taskSchedulerBuilder) {
+        var taskScheduler = taskSchedulerBuilder.build();
+        taskScheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-", 0).factory());
+        return taskScheduler;
+    }
+}
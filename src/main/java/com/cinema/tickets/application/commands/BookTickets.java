@@ -0,0 +1,17 @@
+package com.cinema.tickets.application.commands;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BookTickets(
+        @NotNull
+        Long screeningId,
+
+        @NotEmpty
+        @Size(max = 10)
+        List<@NotNull Long> seatsIds
+) {
+}
@@ -33,13 +33,13 @@ public class BookTicketHandler {
 
     @Transactional
     public void handle(BookTicket command) {
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         if (ticketRepository.exists(command.screeningId(), command.seatId())) {
             throw new TicketAlreadyExistsException();
         }
         var readScreening = new ReadScreening(command.screeningId());
         var screeningDto = readScreeningHandler.handle(readScreening);
-        log.info("Screening:{}", screeningDto);
+        log.debug("Screening:{}", screeningDto);
         ticketBookingPolicy.checkScreeningDate(screeningDto.date());
         var readSeat = new ReadSeat(command.screeningId(), command.seatId());
         var seatDto = readSeatHandler.handle(readSeat);
@@ -52,12 +52,13 @@ public class BookTicketHandler {
                 currentUserId
         );
         var addedTicket = ticketRepository.add(ticket);
-        log.info("Added ticket:{}", addedTicket);
+        log.debug("Added ticket:{}", addedTicket);
         var ticketBookedEvent = new TicketBookedEvent(
                 command.screeningId(),
-                command.seatId()
+                command.seatId(),
+                currentUserId
         );
         eventPublisher.publish(ticketBookedEvent);
-        log.info("Event published:{}", ticketBookedEvent);
+        log.debug("Event published:{}", ticketBookedEvent);
     }
 }
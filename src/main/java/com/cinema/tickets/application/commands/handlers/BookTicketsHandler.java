@@ -0,0 +1,83 @@
+package com.cinema.tickets.application.commands.handlers;
+
+import com.cinema.screenings.application.queries.ReadScreening;
+import com.cinema.screenings.application.queries.ReadSeatsByScreeningId;
+import com.cinema.screenings.application.queries.dto.SeatDto;
+import com.cinema.screenings.application.queries.handlers.ReadScreeningHandler;
+import com.cinema.screenings.application.queries.handlers.ReadSeatsByScreeningIdHandler;
+import com.cinema.screenings.domain.exceptions.SeatNotFoundException;
+import com.cinema.shared.events.EventPublisher;
+import com.cinema.tickets.application.commands.BookTickets;
+import com.cinema.tickets.domain.Ticket;
+import com.cinema.tickets.domain.TicketRepository;
+import com.cinema.tickets.domain.TicketStatus;
+import com.cinema.tickets.domain.events.TicketsBookedEvent;
+import com.cinema.tickets.domain.exceptions.TicketAlreadyExistsException;
+import com.cinema.tickets.domain.policies.TicketBookingPolicy;
+import com.cinema.users.application.queries.ReadCurrentUserId;
+import com.cinema.users.application.queries.handlers.ReadCurrentUserIdHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookTicketsHandler {
+
+    private final TicketRepository ticketRepository;
+    private final TicketBookingPolicy ticketBookingPolicy;
+    private final ReadScreeningHandler readScreeningHandler;
+    private final ReadSeatsByScreeningIdHandler readSeatsByScreeningIdHandler;
+    private final ReadCurrentUserIdHandler readCurrentUserIdHandler;
+    private final EventPublisher eventPublisher;
+
+    @Transactional
+    public void handle(BookTickets command) {
+        log.debug("Command:{}", command);
+        var seatsIds = command
+                .seatsIds()
+                .stream()
+                .distinct()
+                .toList();
+        if (ticketRepository.existsAny(command.screeningId(), seatsIds)) {
+            throw new TicketAlreadyExistsException();
+        }
+        var readScreening = new ReadScreening(command.screeningId());
+        var screeningDto = readScreeningHandler.handle(readScreening);
+        log.debug("Screening:{}", screeningDto);
+        ticketBookingPolicy.checkScreeningDate(screeningDto.date());
+        var readSeats = new ReadSeatsByScreeningId(command.screeningId());
+        var screeningSeatsIds = readSeatsByScreeningIdHandler
+                .handle(readSeats)
+                .stream()
+                .map(SeatDto::id)
+                .collect(Collectors.toSet());
+        if (!screeningSeatsIds.containsAll(seatsIds)) {
+            throw new SeatNotFoundException();
+        }
+        var readCurrentUserIdCommand = new ReadCurrentUserId();
+        var currentUserId = readCurrentUserIdHandler.handle(readCurrentUserIdCommand);
+        var tickets = seatsIds
+                .stream()
+                .map(seatId -> new Ticket(
+                        TicketStatus.ACTIVE,
+                        command.screeningId(),
+                        seatId,
+                        currentUserId
+                ))
+                .toList();
+        ticketRepository.addAll(tickets);
+        log.debug("Added tickets number:{}", tickets.size());
+        var ticketsBookedEvent = new TicketsBookedEvent(
+                command.screeningId(),
+                seatsIds,
+                currentUserId
+        );
+        eventPublisher.publish(ticketsBookedEvent);
+        log.debug("Event published:{}", ticketsBookedEvent);
+    }
+}
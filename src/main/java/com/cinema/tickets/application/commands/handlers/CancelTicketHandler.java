@@ -29,11 +29,11 @@ public class CancelTicketHandler {
 
     @Transactional
     public void handle(CancelTicket command) {
-        log.info("Command id:{}", command);
+        log.debug("Command id:{}", command);
         var ticket = ticketRepository
                 .readById(command.ticketId())
                 .orElseThrow(TicketNotFoundException::new);
-        log.info("Found ticket:{}", ticket);
+        log.debug("Found ticket:{}", ticket);
         var readCurrentUserIdQuery = new ReadCurrentUserId();
         var currentUserId = readCurrentUserIdHandler.handle(readCurrentUserIdQuery);
         if (!ticket.belongsTo(currentUserId)) {
@@ -41,15 +41,15 @@ public class CancelTicketHandler {
         }
         var readScreening = new ReadScreening(ticket.getScreeningId());
         var screeningDto = readScreeningHandler.handle(readScreening);
-        log.info("Screening:{}", screeningDto);
+        log.debug("Screening:{}", screeningDto);
         ticketCancellingPolicy.checkScreeningDate(screeningDto.date());
         ticket.cancel();
-        log.info("Ticket cancelled:{}", ticket);
+        log.debug("Ticket cancelled:{}", ticket);
         var ticketCancelledEvent = new TicketCancelledEvent(
                 ticket.getScreeningId(),
                 ticket.getSeatId()
         );
         eventPublisher.publish(ticketCancelledEvent);
-        log.info("Event published:{}", ticketCancelledEvent);
+        log.debug("Event published:{}", ticketCancelledEvent);
     }
 }
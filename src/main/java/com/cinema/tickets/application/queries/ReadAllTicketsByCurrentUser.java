@@ -1,4 +1,7 @@
 package com.cinema.tickets.application.queries;
 
-public record ReadAllTicketsByCurrentUser() {
+import lombok.Builder;
+
+@Builder
+public record ReadAllTicketsByCurrentUser(String cursor, Integer size) {
 }
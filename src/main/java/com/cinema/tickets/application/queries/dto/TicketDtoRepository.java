@@ -0,0 +1,9 @@
+package com.cinema.tickets.application.queries.dto;
+
+import com.cinema.shared.pagination.KeysetCursor;
+
+import java.util.List;
+
+public interface TicketDtoRepository {
+    List<TicketDto> readAllByUserId(Long userId, KeysetCursor after, int limit);
+}
@@ -27,10 +27,10 @@ class BookTicketController {
     @PostMapping
     @SecurityRequirement(name = "basic")
     ResponseEntity<Object> bookTicket(@RequestBody @Valid BookTicket command) {
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         bookTicketHandler.handle(command);
         var responseEntity = ResponseEntity.created(URI.create("/my/tickets")).build();
-        log.info("Response entity:{}", responseEntity);
+        log.debug("Response entity:{}", responseEntity);
         return responseEntity;
     }
 }
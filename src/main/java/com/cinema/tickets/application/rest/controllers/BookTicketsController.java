@@ -0,0 +1,36 @@
+package com.cinema.tickets.application.rest.controllers;
+
+import com.cinema.tickets.application.commands.BookTickets;
+import com.cinema.tickets.application.commands.handlers.BookTicketsHandler;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/tickets")
+@Tag(name = "tickets")
+@RequiredArgsConstructor
+@Slf4j
+class BookTicketsController {
+
+    private final BookTicketsHandler bookTicketsHandler;
+
+    @PostMapping("/batch")
+    @SecurityRequirement(name = "basic")
+    ResponseEntity<Object> bookTickets(@RequestBody @Valid BookTickets command) {
+        log.debug("Command:{}", command);
+        bookTicketsHandler.handle(command);
+        var responseEntity = ResponseEntity.created(URI.create("/my/tickets")).build();
+        log.debug("Response entity:{}", responseEntity);
+        return responseEntity;
+    }
+}
@@ -24,11 +24,11 @@ class CancelTicketController {
     @PatchMapping("/{ticketId}/cancel")
     @SecurityRequirement(name = "basic")
     ResponseEntity<Object> cancelTicket(@PathVariable Long ticketId) {
-        log.info("Ticket id:{}", ticketId);
+        log.debug("Ticket id:{}", ticketId);
         var command = new CancelTicket(ticketId);
         cancelTicketHandler.handle(command);
         var responseEntity = ResponseEntity.ok().build();
-        log.info("Response entity:{}", responseEntity);
+        log.debug("Response entity:{}", responseEntity);
         return responseEntity;
     }
 }
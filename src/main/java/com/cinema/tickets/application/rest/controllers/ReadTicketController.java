@@ -1,5 +1,6 @@
 package com.cinema.tickets.application.rest.controllers;
 
+import com.cinema.shared.pagination.KeysetPage;
 import com.cinema.tickets.application.queries.ReadAllTicketsByCurrentUser;
 import com.cinema.tickets.application.queries.dto.TicketDto;
 import com.cinema.tickets.application.queries.handlers.ReadAllTicketsByCurrentUserHandler;
@@ -7,8 +8,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -24,8 +27,20 @@ class ReadTicketController {
 
     @GetMapping("/my")
     @SecurityRequirement(name = "basic")
-    List<TicketDto> readAllTicketsByCurrentUser() {
-        var query = new ReadAllTicketsByCurrentUser();
-        return readAllTicketsByCurrentUserHandler.handle(query);
+    ResponseEntity<List<TicketDto>> readAllTicketsByCurrentUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        var query = ReadAllTicketsByCurrentUser
+                .builder()
+                .cursor(cursor)
+                .size(size)
+                .build();
+        var page = readAllTicketsByCurrentUserHandler.handle(query);
+        var responseBuilder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            responseBuilder.header(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return responseBuilder.body(page.items());
     }
 }
@@ -5,7 +5,9 @@ import java.util.Optional;
 
 public interface TicketRepository {
     Ticket add(Ticket ticket);
+    void addAll(List<Ticket> tickets);
     Optional<Ticket> readById(Long ticketId);
     List<Ticket> readAllByUserId(Long userId);
     boolean exists(Long screeningId, Long seatId);
+    boolean existsAny(Long screeningId, List<Long> seatsIds);
 }
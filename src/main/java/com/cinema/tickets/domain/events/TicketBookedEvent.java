@@ -1,4 +1,4 @@
 package com.cinema.tickets.domain.events;
 
-public record TicketBookedEvent(Long screeningId, Long seatId) {
+public record TicketBookedEvent(Long screeningId, Long seatId, Long userId) {
 }
@@ -1,4 +1,11 @@
 package com.cinema.tickets.domain.events;
 
-public record TicketCancelledEvent(Long screeningId, Long seatId) {
+import com.cinema.shared.events.AsyncEvent;
+
+public record TicketCancelledEvent(Long screeningId, Long seatId) implements AsyncEvent {
+
+    @Override
+    public String aggregateId() {
+        return "screening-" + screeningId;
+    }
 }
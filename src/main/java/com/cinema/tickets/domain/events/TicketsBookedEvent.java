@@ -0,0 +1,6 @@
+package com.cinema.tickets.domain.events;
+
+import java.util.List;
+
+public record TicketsBookedEvent(Long screeningId, List<Long> seatsIds, Long userId) {
+}
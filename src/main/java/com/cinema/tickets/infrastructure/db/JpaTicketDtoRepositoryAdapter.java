@@ -0,0 +1,68 @@
+package com.cinema.tickets.infrastructure.db;
+
+import com.cinema.shared.pagination.KeysetCursor;
+import com.cinema.tickets.application.queries.dto.TicketDto;
+import com.cinema.tickets.application.queries.dto.TicketDtoRepository;
+import com.cinema.tickets.domain.Ticket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+class JpaTicketDtoRepositoryAdapter implements TicketDtoRepository {
+
+    private final JpaTicketDtoRepository jpaTicketDtoRepository;
+
+    @Override
+    public List<TicketDto> readAllByUserId(Long userId, KeysetCursor after, int limit) {
+        var pageable = PageRequest.of(0, limit);
+        return after == null ?
+                jpaTicketDtoRepository.findAllByUserId(userId, pageable) :
+                jpaTicketDtoRepository.findAllByUserIdAfter(userId, after.date(), after.id(), pageable);
+    }
+}
+
+interface JpaTicketDtoRepository extends JpaRepository<Ticket, Long> {
+
+    String SELECT_TICKET_DTO = """
+            select new com.cinema.tickets.application.queries.dto.TicketDto(
+                t.id,
+                t.status,
+                f.title,
+                sc.date,
+                sc.roomId,
+                se.rowNumber,
+                se.number
+            )
+            from Ticket t
+            join Screening sc on sc.id = t.screeningId
+            join Film f on f.id = sc.filmId
+            join Seat se on se.id = t.seatId
+            """;
+
+    @Query(SELECT_TICKET_DTO + """
+            where t.userId = :userId
+            order by sc.date, t.id
+            """)
+    List<TicketDto> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(SELECT_TICKET_DTO + """
+            where t.userId = :userId
+            and (sc.date > :afterDate or (sc.date = :afterDate and t.id > :afterId))
+            order by sc.date, t.id
+            """)
+    List<TicketDto> findAllByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+}
@@ -1,9 +1,14 @@
 package com.cinema.tickets.infrastructure.db;
 
+import com.cinema.shared.db.ConstraintViolations;
 import com.cinema.tickets.domain.Ticket;
 import com.cinema.tickets.domain.TicketRepository;
+import com.cinema.tickets.domain.TicketStatus;
+import com.cinema.tickets.domain.exceptions.TicketAlreadyExistsException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,13 +18,43 @@ import java.util.Optional;
 @RequiredArgsConstructor
 class JpaTicketRepositoryAdapter implements TicketRepository {
 
+    private static final String ACTIVE_TICKET_CONSTRAINT = "tickets_active_screening_id_seat_id_uidx";
+
+    private static final String INSERT_TICKET_SQL = """
+            insert into tickets (status, screening_id, seat_id, user_id)
+            values (?, ?, ?, ?)
+            """;
+
     private final JpaTicketRepository jpaTicketRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Ticket add(Ticket ticket) {
-        return jpaTicketRepository.save(ticket);
+        try {
+            return jpaTicketRepository.saveAndFlush(ticket);
+        } catch (DataIntegrityViolationException exception) {
+            throw translate(exception);
+        }
     }
 
+    @Override
+    public void addAll(List<Ticket> tickets) {
+        try {
+            jdbcTemplate.batchUpdate(
+                    INSERT_TICKET_SQL,
+                    tickets,
+                    tickets.size(),
+                    (statement, ticket) -> {
+                        statement.setString(1, ticket.getStatus().name());
+                        statement.setLong(2, ticket.getScreeningId());
+                        statement.setLong(3, ticket.getSeatId());
+                        statement.setLong(4, ticket.getUserId());
+                    }
+            );
+        } catch (DataIntegrityViolationException exception) {
+            throw translate(exception);
+        }
+    }
 
     @Override
     public Optional<Ticket> readById(Long id) {
@@ -33,19 +68,43 @@ class JpaTicketRepositoryAdapter implements TicketRepository {
 
     @Override
     public boolean exists(Long screeningId, Long seatId) {
-        return jpaTicketRepository.existsByScreeningIdAndSeatId(
+        return jpaTicketRepository.existsByScreeningIdAndSeatIdAndStatus(
+                screeningId,
+                seatId,
+                TicketStatus.ACTIVE
+        );
+    }
+
+    @Override
+    public boolean existsAny(Long screeningId, List<Long> seatsIds) {
+        return jpaTicketRepository.existsByScreeningIdAndSeatIdInAndStatus(
                 screeningId,
-                seatId
+                seatsIds,
+                TicketStatus.ACTIVE
         );
     }
+
+    private static RuntimeException translate(DataIntegrityViolationException exception) {
+        if (ConstraintViolations.isViolationOf(exception, ACTIVE_TICKET_CONSTRAINT)) {
+            return new TicketAlreadyExistsException();
+        }
+        return exception;
+    }
 }
 
 interface JpaTicketRepository extends JpaRepository<Ticket, Long> {
 
     List<Ticket> findAllByUserId(Long userId);
 
-    boolean existsByScreeningIdAndSeatId(
+    boolean existsByScreeningIdAndSeatIdAndStatus(
+            Long screeningId,
+            Long seatId,
+            TicketStatus status
+    );
+
+    boolean existsByScreeningIdAndSeatIdInAndStatus(
             Long screeningId,
-            Long seatId
+            List<Long> seatsIds,
+            TicketStatus status
     );
 }
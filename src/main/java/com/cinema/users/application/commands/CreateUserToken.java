@@ -0,0 +1,13 @@
+package com.cinema.users.application.commands;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record CreateUserToken(
+
+        @NotBlank
+        String mail,
+
+        @NotBlank
+        String password
+) {
+}
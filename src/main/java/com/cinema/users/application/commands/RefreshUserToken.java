@@ -0,0 +1,11 @@
+package com.cinema.users.application.commands;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record RefreshUserToken(
+        @NotNull
+        UUID refreshToken
+) {
+}
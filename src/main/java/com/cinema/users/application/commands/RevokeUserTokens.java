@@ -0,0 +1,4 @@
+package com.cinema.users.application.commands;
+
+public record RevokeUserTokens() {
+}
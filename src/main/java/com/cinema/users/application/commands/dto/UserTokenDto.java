@@ -0,0 +1,10 @@
+package com.cinema.users.application.commands.dto;
+
+import java.util.UUID;
+
+public record UserTokenDto(
+        String accessToken,
+        UUID refreshToken,
+        long expiresIn
+) {
+}
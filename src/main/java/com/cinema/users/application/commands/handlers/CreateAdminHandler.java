@@ -1,8 +1,10 @@
 package com.cinema.users.application.commands.handlers;
 
+import com.cinema.shared.events.EventPublisher;
 import com.cinema.users.application.commands.CreateAdmin;
 import com.cinema.users.domain.UserRepository;
 import com.cinema.users.domain.UserRole;
+import com.cinema.users.domain.events.UserCreatedEvent;
 import com.cinema.users.domain.exceptions.UserMailNotUniqueException;
 import com.cinema.users.domain.factories.UserFactory;
 import lombok.RequiredArgsConstructor;
@@ -16,12 +18,14 @@ public class CreateAdminHandler {
 
     private final UserFactory userFactory;
     private final UserRepository userRepository;
+    private final EventPublisher eventPublisher;
 
     public void handle(CreateAdmin command) {
-        log.info("Command:{}", command);
+        log.debug("Command:{}", command);
         try {
             var admin = userFactory.createUser(command.adminMail(), command.adminPassword(), UserRole.ADMIN);
-            userRepository.add(admin);
+            var addedAdmin = userRepository.add(admin);
+            eventPublisher.publish(new UserCreatedEvent(addedAdmin.getId(), addedAdmin.getMail()));
             log.info("Admin added");
         } catch (UserMailNotUniqueException exception) {
             log.info("Admin already exists");
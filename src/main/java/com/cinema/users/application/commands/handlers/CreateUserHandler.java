@@ -1,8 +1,10 @@
 package com.cinema.users.application.commands.handlers;
 
+import com.cinema.shared.events.EventPublisher;
 import com.cinema.users.application.commands.CreateUser;
 import com.cinema.users.domain.UserRepository;
 import com.cinema.users.domain.UserRole;
+import com.cinema.users.domain.events.UserCreatedEvent;
 import com.cinema.users.domain.factories.UserFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -13,9 +15,11 @@ public class CreateUserHandler {
 
     private final UserFactory userFactory;
     private final UserRepository userRepository;
+    private final EventPublisher eventPublisher;
 
     public void handle(CreateUser command) {
         var user = userFactory.createUser(command.mail(), command.password(), UserRole.COMMON);
-        userRepository.add(user);
+        var addedUser = userRepository.add(user);
+        eventPublisher.publish(new UserCreatedEvent(addedUser.getId(), addedUser.getMail()));
     }
 }
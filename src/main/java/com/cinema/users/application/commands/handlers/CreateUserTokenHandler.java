@@ -0,0 +1,39 @@
+package com.cinema.users.application.commands.handlers;
+
+import com.cinema.users.application.commands.CreateUserToken;
+import com.cinema.users.application.commands.dto.UserTokenDto;
+import com.cinema.users.domain.AccessTokenProvider;
+import com.cinema.users.domain.AuthenticatedUser;
+import com.cinema.users.domain.UserRepository;
+import com.cinema.users.domain.exceptions.InvalidCredentialsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CreateUserTokenHandler {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final AccessTokenProvider accessTokenProvider;
+
+    @Transactional
+    public UserTokenDto handle(CreateUserToken command) {
+        log.debug("Mail:{}", command.mail());
+        var user = userRepository
+                .readyByMail(command.mail())
+                .filter(foundUser -> passwordEncoder.matches(command.password(), foundUser.getPassword()))
+                .orElseThrow(InvalidCredentialsException::new);
+        var refreshToken = user.issueRefreshToken();
+        userRepository.add(user);
+        return new UserTokenDto(
+                accessTokenProvider.issue(AuthenticatedUser.of(user)),
+                refreshToken,
+                accessTokenProvider.getTtl().toSeconds()
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.cinema.users.application.commands.handlers;
+
+import com.cinema.users.application.commands.RefreshUserToken;
+import com.cinema.users.application.commands.dto.UserTokenDto;
+import com.cinema.users.domain.AccessTokenProvider;
+import com.cinema.users.domain.AuthenticatedUser;
+import com.cinema.users.domain.UserRepository;
+import com.cinema.users.domain.exceptions.InvalidCredentialsException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshUserTokenHandler {
+
+    private final UserRepository userRepository;
+    private final AccessTokenProvider accessTokenProvider;
+
+    /** Rotates the refresh token, so each of them can be used only once */
+    @Transactional
+    public UserTokenDto handle(RefreshUserToken command) {
+        var user = userRepository
+                .readByRefreshToken(command.refreshToken())
+                .orElseThrow(InvalidCredentialsException::new);
+        var refreshToken = user.issueRefreshToken();
+        userRepository.add(user);
+        return new UserTokenDto(
+                accessTokenProvider.issue(AuthenticatedUser.of(user)),
+                refreshToken,
+                accessTokenProvider.getTtl().toSeconds()
+        );
+    }
+}
@@ -7,6 +7,7 @@ import com.cinema.users.domain.events.UserPasswordResetEvent;
 import com.cinema.users.domain.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -17,6 +18,7 @@ public class ResetUserPasswordHandler {
     private final UserRepository userRepository;
     private final EventPublisher eventPublisher;
 
+    @Transactional
     public void handle(ResetUserPassword command) {
         var user = userRepository
                 .readyByMail(command.mail())
@@ -0,0 +1,40 @@
+package com.cinema.users.application.commands.handlers;
+
+import com.cinema.shared.events.EventPublisher;
+import com.cinema.users.application.commands.RevokeUserTokens;
+import com.cinema.users.application.queries.ReadCurrentUserId;
+import com.cinema.users.application.queries.handlers.ReadCurrentUserIdHandler;
+import com.cinema.users.domain.UserRepository;
+import com.cinema.users.domain.events.UserTokensRevokedEvent;
+import com.cinema.users.domain.exceptions.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokeUserTokensHandler {
+
+    private final UserRepository userRepository;
+    private final ReadCurrentUserIdHandler readCurrentUserIdHandler;
+    private final EventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Transactional
+    public void handle(RevokeUserTokens command) {
+        var currentUserId = readCurrentUserIdHandler.handle(new ReadCurrentUserId());
+        var user = userRepository
+                .readById(currentUserId)
+                .orElseThrow(UserNotFoundException::new);
+        var revokedAt = LocalDateTime.now(clock);
+        user.revokeTokens(revokedAt);
+        userRepository.add(user);
+        log.info("Revoked tokens of user:{}", currentUserId);
+        eventPublisher.publish(new UserTokensRevokedEvent(currentUserId, revokedAt));
+    }
+}
@@ -1,11 +1,18 @@
 package com.cinema.users.application.commands.handlers;
 
+import com.cinema.shared.events.EventPublisher;
 import com.cinema.users.application.commands.SetNewUserPassword;
 import com.cinema.users.domain.UserRepository;
+import com.cinema.users.domain.events.UserPasswordChangedEvent;
+import com.cinema.users.domain.events.UserTokensRevokedEvent;
 import com.cinema.users.domain.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
@@ -13,13 +20,20 @@ public class SetNewUserPasswordHandler {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EventPublisher eventPublisher;
+    private final Clock clock;
 
+    @Transactional
     public void handle(SetNewUserPassword command) {
         var user = userRepository
                 .readByPasswordResetToken(command.passwordResetToken())
                 .orElseThrow(UserNotFoundException::new);
         var encodedPassword = passwordEncoder.encode(command.newPassword());
+        var revokedAt = LocalDateTime.now(clock);
         user.setNewPassword(encodedPassword);
+        user.revokeTokens(revokedAt);
         userRepository.add(user);
+        eventPublisher.publish(new UserPasswordChangedEvent(user.getMail()));
+        eventPublisher.publish(new UserTokensRevokedEvent(user.getId(), revokedAt));
     }
 }
@@ -1,6 +1,7 @@
 package com.cinema.users.application.queries.handlers;
 
 import com.cinema.users.application.queries.ReadCurrentUserId;
+import com.cinema.users.domain.AuthenticatedUser;
 import com.cinema.users.domain.User;
 import com.cinema.users.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,10 +16,13 @@ public class ReadCurrentUserIdHandler {
     private final UserRepository userRepository;
 
     public Long handle(ReadCurrentUserId query) {
-        var mail = SecurityContextHolder
+        var authentication = SecurityContextHolder
                 .getContext()
-                .getAuthentication()
-                .getName();
+                .getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.id();
+        }
+        var mail = authentication.getName();
         return userRepository
                 .readyByMail(mail)
                 .map(User::getId)
@@ -0,0 +1,26 @@
+package com.cinema.users.application.rest.controllers;
+
+import com.cinema.users.application.commands.CreateUserToken;
+import com.cinema.users.application.commands.dto.UserTokenDto;
+import com.cinema.users.application.commands.handlers.CreateUserTokenHandler;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/users")
+@Tag(name = "users")
+@RequiredArgsConstructor
+class CreateUserTokenController {
+
+    private final CreateUserTokenHandler createUserTokenHandler;
+
+    @PostMapping("/token")
+    UserTokenDto createUserToken(@RequestBody @Valid CreateUserToken command) {
+        return createUserTokenHandler.handle(command);
+    }
+}
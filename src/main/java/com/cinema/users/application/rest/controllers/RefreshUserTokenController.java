@@ -0,0 +1,26 @@
+package com.cinema.users.application.rest.controllers;
+
+import com.cinema.users.application.commands.RefreshUserToken;
+import com.cinema.users.application.commands.dto.UserTokenDto;
+import com.cinema.users.application.commands.handlers.RefreshUserTokenHandler;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/users")
+@Tag(name = "users")
+@RequiredArgsConstructor
+class RefreshUserTokenController {
+
+    private final RefreshUserTokenHandler refreshUserTokenHandler;
+
+    @PostMapping("/token/refresh")
+    UserTokenDto refreshUserToken(@RequestBody @Valid RefreshUserToken command) {
+        return refreshUserTokenHandler.handle(command);
+    }
+}
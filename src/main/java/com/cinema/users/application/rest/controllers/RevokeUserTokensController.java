@@ -0,0 +1,29 @@
+package com.cinema.users.application.rest.controllers;
+
+import com.cinema.users.application.commands.RevokeUserTokens;
+import com.cinema.users.application.commands.handlers.RevokeUserTokensHandler;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/users")
+@Tag(name = "users")
+@RequiredArgsConstructor
+class RevokeUserTokensController {
+
+    private final RevokeUserTokensHandler revokeUserTokensHandler;
+
+    @PostMapping("/token/revoke")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @SecurityRequirement(name = "basic")
+    @SecurityRequirement(name = "bearer")
+    void revokeUserTokens() {
+        revokeUserTokensHandler.handle(new RevokeUserTokens());
+    }
+}
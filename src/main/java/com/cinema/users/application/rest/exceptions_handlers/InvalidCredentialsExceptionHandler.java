@@ -0,0 +1,18 @@
+package com.cinema.users.application.rest.exceptions_handlers;
+
+import com.cinema.shared.exceptions.ExceptionMessage;
+import com.cinema.users.domain.exceptions.InvalidCredentialsException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+class InvalidCredentialsExceptionHandler {
+
+    @ExceptionHandler(InvalidCredentialsException.class)
+    ResponseEntity<ExceptionMessage> handle(InvalidCredentialsException exception) {
+        var exceptionMessage = new ExceptionMessage(exception.getMessage());
+        return new ResponseEntity<>(exceptionMessage, HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cinema.users.domain;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface AccessTokenProvider {
+    String issue(AuthenticatedUser user);
+    Optional<AuthenticatedUser> verify(String accessToken);
+    Duration getTtl();
+}
@@ -0,0 +1,23 @@
+package com.cinema.users.domain;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+
+public record AuthenticatedUser(Long id, String mail, UserRole role) implements Principal {
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getMail(), user.getRole());
+    }
+
+    @Override
+    public String getName() {
+        return mail;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+}
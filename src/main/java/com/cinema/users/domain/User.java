@@ -12,6 +12,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -34,6 +35,10 @@ public class User implements UserDetails {
 
     private UUID passwordResetToken;
 
+    private UUID refreshToken;
+
+    private LocalDateTime tokensRevokedAt;
+
     protected User() {
     }
 
@@ -46,6 +51,17 @@ public class User implements UserDetails {
     public void setNewPassword(String newPassword) {
         this.password = newPassword;
         this.passwordResetToken = null;
+        this.refreshToken = null;
+    }
+
+    public UUID issueRefreshToken() {
+        this.refreshToken = UUID.randomUUID();
+        return refreshToken;
+    }
+
+    public void revokeTokens(LocalDateTime revokedAt) {
+        this.refreshToken = null;
+        this.tokensRevokedAt = revokedAt;
     }
 
     public void setPasswordResetToken(UUID passwordResetToken) {
@@ -1,11 +1,16 @@
 package com.cinema.users.domain;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository {
     User add(User user);
+    Optional<User> readById(Long id);
     Optional<User> readyByMail(String mail);
+    Optional<User> readByRefreshToken(UUID refreshToken);
+    List<User> readAllWithTokensRevokedAfter(LocalDateTime date);
     Optional<User> readByPasswordResetToken(UUID passwordResetToken);
     boolean existsByMail(String mail);
 }
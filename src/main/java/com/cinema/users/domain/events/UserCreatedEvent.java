@@ -0,0 +1,4 @@
+package com.cinema.users.domain.events;
+
+public record UserCreatedEvent(Long userId, String mail) {
+}
@@ -0,0 +1,4 @@
+package com.cinema.users.domain.events;
+
+public record UserPasswordChangedEvent(String mail) {
+}
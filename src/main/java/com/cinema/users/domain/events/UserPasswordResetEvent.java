@@ -1,6 +1,13 @@
 package com.cinema.users.domain.events;
 
+import com.cinema.shared.events.AsyncEvent;
+
 import java.util.UUID;
 
-public record UserPasswordResetEvent(String mail, UUID token) {
+public record UserPasswordResetEvent(String mail, UUID token) implements AsyncEvent {
+
+    @Override
+    public String aggregateId() {
+        return "user-" + mail;
+    }
 }
@@ -0,0 +1,6 @@
+package com.cinema.users.domain.events;
+
+import java.time.LocalDateTime;
+
+public record UserTokensRevokedEvent(Long userId, LocalDateTime revokedAt) {
+}
@@ -0,0 +1,8 @@
+package com.cinema.users.domain.exceptions;
+
+public class InvalidCredentialsException extends RuntimeException {
+
+    public InvalidCredentialsException() {
+        super("Invalid credentials");
+    }
+}
@@ -0,0 +1,52 @@
+package com.cinema.users.infrastrcuture;
+
+import com.cinema.users.domain.AccessTokenProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/** Requests without a bearer token are passed on untouched, so HTTP Basic keeps working */
+@RequiredArgsConstructor
+class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenProvider accessTokenProvider;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        var authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        var authenticatedUser = accessTokenProvider.verify(authorization.substring(BEARER_PREFIX.length()));
+        if (authenticatedUser.isEmpty()) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        var context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(
+                        authenticatedUser.get(),
+                        null,
+                        authenticatedUser.get().authorities()
+                )
+        );
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+}
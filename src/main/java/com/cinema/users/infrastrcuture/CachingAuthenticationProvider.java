@@ -0,0 +1,137 @@
+package com.cinema.users.infrastrcuture;
+
+import com.cinema.users.domain.AuthenticatedUser;
+import com.cinema.users.domain.User;
+import com.cinema.users.domain.events.UserCreatedEvent;
+import com.cinema.users.domain.events.UserPasswordChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/** Credentials are cached only as an HMAC with a key generated on start up */
+@Component
+@Slf4j
+class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String KEY_ALGORITHM = "HmacSHA256";
+
+    private final DaoAuthenticationProvider delegate;
+    private final Cache<String, CachedAuthentication> authentications;
+    private final SecretKey credentialsKey;
+    private final RevokedTokens revokedTokens;
+    private final Clock clock;
+
+    CachingAuthenticationProvider(
+            UserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            RevokedTokens revokedTokens,
+            Clock clock,
+            @Value("${users.authenticationCacheTtlInSeconds}") long authenticationCacheTtlInSeconds,
+            @Value("${users.authenticationCacheMaxSize}") long authenticationCacheMaxSize,
+            @Value("${users.accessTokenTtlInSeconds}") long accessTokenTtlInSeconds
+    ) throws GeneralSecurityException {
+        // Revocations are kept only for the access token TTL, so cached authentications must not outlive it
+        if (authenticationCacheTtlInSeconds > accessTokenTtlInSeconds) {
+            throw new IllegalStateException("Authentication cache TTL cannot exceed access token TTL");
+        }
+        this.delegate = new DaoAuthenticationProvider(passwordEncoder);
+        this.delegate.setUserDetailsService(userDetailsService);
+        this.authentications = Caffeine
+                .newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(authenticationCacheTtlInSeconds))
+                .maximumSize(authenticationCacheMaxSize)
+                .build();
+        this.credentialsKey = KeyGenerator
+                .getInstance(KEY_ALGORITHM)
+                .generateKey();
+        this.revokedTokens = revokedTokens;
+        this.clock = clock;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        var cacheKey = cacheKey(authentication.getName(), String.valueOf(authentication.getCredentials()));
+        var cachedAuthentication = authentications.getIfPresent(cacheKey);
+        // Password changes on other instances revoke tokens, which reach this instance with the revocations refresh
+        if (cachedAuthentication != null && !isRevoked(cachedAuthentication)) {
+            return authenticated(cachedAuthentication.user());
+        }
+        var verifiedAt = clock.instant();
+        var verifiedAuthentication = delegate.authenticate(authentication);
+        var authenticatedUser = AuthenticatedUser.of((User) verifiedAuthentication.getPrincipal());
+        authentications.put(cacheKey, new CachedAuthentication(authenticatedUser, verifiedAt));
+        return authenticated(authenticatedUser);
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void handle(UserCreatedEvent event) {
+        log.debug("Handled event:{}", event);
+        evict(event.mail());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void handle(UserPasswordChangedEvent event) {
+        log.debug("Handled event:{}", event);
+        evict(event.mail());
+    }
+
+    private void evict(String mail) {
+        authentications
+                .asMap()
+                .values()
+                .removeIf(cachedAuthentication -> cachedAuthentication.user().mail().equals(mail));
+    }
+
+    private boolean isRevoked(CachedAuthentication cachedAuthentication) {
+        return revokedTokens.isRevoked(cachedAuthentication.user().id(), cachedAuthentication.verifiedAt());
+    }
+
+    private static Authentication authenticated(AuthenticatedUser authenticatedUser) {
+        return UsernamePasswordAuthenticationToken.authenticated(
+                authenticatedUser,
+                null,
+                authenticatedUser.authorities()
+        );
+    }
+
+    private String cacheKey(String username, String password) {
+        try {
+            var mac = Mac.getInstance(KEY_ALGORITHM);
+            mac.init(credentialsKey);
+            var credentials = username + ":" + password;
+            return HexFormat
+                    .of()
+                    .formatHex(mac.doFinal(credentials.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private record CachedAuthentication(AuthenticatedUser user, Instant verifiedAt) {
+    }
+}
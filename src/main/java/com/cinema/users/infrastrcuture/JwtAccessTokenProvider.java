@@ -0,0 +1,121 @@
+package com.cinema.users.infrastrcuture;
+
+import com.cinema.users.domain.AccessTokenProvider;
+import com.cinema.users.domain.AuthenticatedUser;
+import com.cinema.users.domain.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Optional;
+
+@Component
+@Slf4j
+class JwtAccessTokenProvider implements AccessTokenProvider {
+
+    private static final String KEY_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_LENGTH_IN_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8)
+    );
+
+    private final ObjectMapper objectMapper;
+    private final RevokedTokens revokedTokens;
+    private final Clock clock;
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    JwtAccessTokenProvider(
+            ObjectMapper objectMapper,
+            RevokedTokens revokedTokens,
+            Clock clock,
+            @Value("${users.accessTokenSecret}") String accessTokenSecret,
+            @Value("${users.accessTokenTtlInSeconds}") long accessTokenTtlInSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.revokedTokens = revokedTokens;
+        this.clock = clock;
+        var secretBytes = accessTokenSecret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_LENGTH_IN_BYTES) {
+            throw new IllegalStateException(
+                    "Access token secret must have at least " + MIN_SECRET_LENGTH_IN_BYTES + " bytes"
+            );
+        }
+        this.key = new SecretKeySpec(secretBytes, KEY_ALGORITHM);
+        this.ttl = Duration.ofSeconds(accessTokenTtlInSeconds);
+    }
+
+    @Override
+    public String issue(AuthenticatedUser user) {
+        var issuedAt = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        var claims = new Claims(
+                user.id(),
+                user.mail(),
+                user.role(),
+                issuedAt.getEpochSecond(),
+                issuedAt.plus(ttl).getEpochSecond()
+        );
+        try {
+            var signingInput = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return signingInput + "." + ENCODER.encodeToString(sign(signingInput));
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @Override
+    public Optional<AuthenticatedUser> verify(String accessToken) {
+        var parts = accessToken.split("\\.", -1);
+        if (parts.length != 3 || !parts[0].equals(HEADER)) {
+            return Optional.empty();
+        }
+        try {
+            var signature = DECODER.decode(parts[2]);
+            if (!MessageDigest.isEqual(signature, sign(parts[0] + "." + parts[1]))) {
+                return Optional.empty();
+            }
+            var claims = objectMapper.readValue(DECODER.decode(parts[1]), Claims.class);
+            var issuedAt = Instant.ofEpochSecond(claims.iat());
+            if (!clock.instant().isBefore(Instant.ofEpochSecond(claims.exp()))
+                    || revokedTokens.isRevoked(claims.sub(), issuedAt)) {
+                return Optional.empty();
+            }
+            return Optional.of(new AuthenticatedUser(claims.sub(), claims.mail(), claims.role()));
+        } catch (IllegalArgumentException | IOException exception) {
+            log.debug("Malformed access token", exception);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            var mac = Mac.getInstance(KEY_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    record Claims(Long sub, String mail, UserRole role, long iat, long exp) {
+    }
+}
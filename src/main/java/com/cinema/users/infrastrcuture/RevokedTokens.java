@@ -0,0 +1,82 @@
+package com.cinema.users.infrastrcuture;
+
+import com.cinema.users.domain.User;
+import com.cinema.users.domain.UserRepository;
+import com.cinema.users.domain.events.UserCreatedEvent;
+import com.cinema.users.domain.events.UserTokensRevokedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+class RevokedTokens {
+
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final Duration accessTokenTtl;
+    private final Map<Long, Instant> revocationDates = new ConcurrentHashMap<>();
+
+    RevokedTokens(
+            UserRepository userRepository,
+            Clock clock,
+            @Value("${users.accessTokenTtlInSeconds}") long accessTokenTtlInSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.accessTokenTtl = Duration.ofSeconds(accessTokenTtlInSeconds);
+    }
+
+    /** Tokens issued in the same second as the revocation are rejected too, as iat has a second precision */
+    boolean isRevoked(Long userId, Instant issuedAt) {
+        var revokedAt = revocationDates.get(userId);
+        return revokedAt != null && !issuedAt.isAfter(revokedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void handle(UserTokensRevokedEvent event) {
+        log.debug("Handled event:{}", event);
+        revocationDates.merge(event.userId(), toInstant(event.revokedAt()), RevokedTokens::latest);
+    }
+
+    /** A new user has no revoked tokens, even if the id was used before */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void handle(UserCreatedEvent event) {
+        revocationDates.remove(event.userId());
+    }
+
+    @Scheduled(fixedDelayString = "${users.revokedTokensRefreshIntervalInMillis}")
+    void refresh() {
+        var since = clock.instant().minus(accessTokenTtl);
+        userRepository
+                .readAllWithTokensRevokedAfter(LocalDateTime.ofInstant(since, clock.getZone()))
+                .forEach(this::put);
+        revocationDates
+                .values()
+                .removeIf(revokedAt -> revokedAt.isBefore(since));
+    }
+
+    private void put(User user) {
+        revocationDates.merge(user.getId(), toInstant(user.getTokensRevokedAt()), RevokedTokens::latest);
+    }
+
+    private static Instant latest(Instant first, Instant second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private Instant toInstant(LocalDateTime date) {
+        return date
+                .atZone(clock.getZone())
+                .toInstant();
+    }
+}
@@ -1,9 +1,11 @@
 package com.cinema.users.infrastrcuture;
 
+import com.cinema.users.domain.AccessTokenProvider;
 import com.cinema.users.domain.UserRepository;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
+import io.swagger.v3.oas.annotations.security.SecuritySchemes;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,18 +20,31 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
-@SecurityScheme(
-        name = "basic",
-        scheme = "basic",
-        type = SecuritySchemeType.HTTP,
-        in = SecuritySchemeIn.HEADER
-)
+@SecuritySchemes({
+        @SecurityScheme(
+                name = "basic",
+                scheme = "basic",
+                type = SecuritySchemeType.HTTP,
+                in = SecuritySchemeIn.HEADER
+        ),
+        @SecurityScheme(
+                name = "bearer",
+                scheme = "bearer",
+                bearerFormat = "JWT",
+                type = SecuritySchemeType.HTTP,
+                in = SecuritySchemeIn.HEADER
+        )
+})
 class SecurityConfig {
 
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            AccessTokenProvider accessTokenProvider
+    ) throws Exception {
         return http
                 .authorizeHttpRequests(
                         configurer -> configurer
@@ -41,7 +56,9 @@ class SecurityConfig {
                                 ).permitAll()
                                 .requestMatchers(
                                         HttpMethod.POST,
-                                        "/users"
+                                        "/users",
+                                        "/users/token",
+                                        "/users/token/refresh"
                                 ).permitAll()
                                 .requestMatchers(
                                         HttpMethod.PATCH,
@@ -50,8 +67,12 @@ class SecurityConfig {
                                 ).permitAll()
                                 .requestMatchers(
                                         "/swagger-ui/**",
-                                        "/v3/api-docs/**"
+                                        "/v3/api-docs/**",
+                                        "/actuator/health"
                                 ).permitAll()
+                                .requestMatchers(
+                                        "/actuator/**"
+                                ).hasAuthority("ADMIN")
                                 .requestMatchers(
                                         HttpMethod.GET,
                                         "/rooms"
@@ -59,7 +80,8 @@ class SecurityConfig {
                                 .requestMatchers(
                                         HttpMethod.POST,
                                         "/films",
-                                        "/screenings"
+                                        "/screenings",
+                                        "/screenings/import"
                                 ).hasAuthority("ADMIN")
                                 .requestMatchers(
                                         HttpMethod.DELETE,
@@ -69,6 +91,10 @@ class SecurityConfig {
                                 .anyRequest()
                                 .authenticated()
                 )
+                .addFilterBefore(
+                        new BearerTokenAuthenticationFilter(accessTokenProvider),
+                        BasicAuthenticationFilter.class
+                )
                 .httpBasic(Customizer.withDefaults())
                 .sessionManagement(configurer -> configurer
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,11 +22,26 @@ class JpaUserRepositoryAdapter implements UserRepository {
         return jpaUserRepository.save(user);
     }
 
+    @Override
+    public Optional<User> readById(Long id) {
+        return jpaUserRepository.findById(id);
+    }
+
     @Override
     public Optional<User> readyByMail(String mail) {
         return jpaUserRepository.findByMail(mail);
     }
 
+    @Override
+    public Optional<User> readByRefreshToken(UUID refreshToken) {
+        return jpaUserRepository.findByRefreshToken(refreshToken);
+    }
+
+    @Override
+    public List<User> readAllWithTokensRevokedAfter(LocalDateTime date) {
+        return jpaUserRepository.findAllByTokensRevokedAtAfter(date);
+    }
+
     @Override
     public Optional<User> readByPasswordResetToken(UUID passwordResetToken) {
         return jpaUserRepository.findByPasswordResetToken(passwordResetToken);
@@ -36,8 +53,10 @@ class JpaUserRepositoryAdapter implements UserRepository {
     }
 }
 
-interface JpaUserRepository extends JpaRepository<User, String> {
+interface JpaUserRepository extends JpaRepository<User, Long> {
     Optional<User> findByMail(String mail);
     Optional<User> findByPasswordResetToken(UUID passwordResetToken);
+    Optional<User> findByRefreshToken(UUID refreshToken);
+    List<User> findAllByTokensRevokedAtAfter(LocalDateTime date);
     boolean existsByMail(String mail);
 }
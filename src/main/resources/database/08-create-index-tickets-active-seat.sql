@@ -0,0 +1,6 @@
+--liquibase formatted sql
+--changeset nofenak:7
+
+create unique index if not exists tickets_active_screening_id_seat_id_uidx
+    on tickets (screening_id, seat_id)
+    where status = 'ACTIVE';
@@ -0,0 +1,5 @@
+--liquibase formatted sql
+--changeset nofenak:8
+
+alter table screenings
+    add column if not exists film_id bigint;
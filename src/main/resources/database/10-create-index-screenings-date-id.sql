@@ -0,0 +1,8 @@
+--liquibase formatted sql
+--changeset nofenak:9
+
+create index if not exists screenings_date_id_idx
+    on screenings (date, id);
+
+create index if not exists screenings_film_id_date_id_idx
+    on screenings (film_id, date, id);
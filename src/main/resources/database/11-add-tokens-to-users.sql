@@ -0,0 +1,9 @@
+--liquibase formatted sql
+--changeset nofenak:10
+
+alter table users
+    add column if not exists refresh_token uuid,
+    add column if not exists tokens_revoked_at timestamp;
+
+create unique index if not exists users_refresh_token_uidx
+    on users (refresh_token);
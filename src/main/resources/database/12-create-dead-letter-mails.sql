@@ -0,0 +1,14 @@
+--liquibase formatted sql
+--changeset nofenak:11
+
+create table if not exists dead_letter_mails
+(
+    id         bigint generated always as identity primary key,
+    receiver   varchar,
+    subject    varchar,
+    text       varchar,
+    type       varchar,
+    attempts   int,
+    last_error varchar,
+    failed_at  timestamp
+);
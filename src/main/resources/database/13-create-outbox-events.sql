@@ -0,0 +1,18 @@
+--liquibase formatted sql
+--changeset nofenak:12
+
+create table if not exists outbox_events
+(
+    id           bigint generated always as identity primary key,
+    aggregate_id varchar,
+    type         varchar,
+    payload      text,
+    created_at   timestamp,
+    published_at timestamp,
+    attempts     int default 0,
+    last_error   varchar
+);
+
+create index if not exists outbox_events_unpublished_id_idx
+    on outbox_events (id)
+    where published_at is null;
@@ -0,0 +1,6 @@
+--liquibase formatted sql
+--changeset nofenak:13
+
+alter table seats
+    alter column id set generated by default
+    alter column id set increment by 50;
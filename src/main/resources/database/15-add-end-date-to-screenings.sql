@@ -0,0 +1,14 @@
+--liquibase formatted sql
+--changeset nofenak:14
+
+alter table screenings
+    add column if not exists end_date timestamp;
+
+update screenings s
+set end_date = s.date + make_interval(mins => f.duration_in_minutes)
+from films f
+where f.id = s.film_id and s.end_date is null;
+
+create index if not exists screenings_with_room_end_date_id_idx
+    on screenings (end_date, id)
+    where room_id is not null;
@@ -0,0 +1,10 @@
+--liquibase formatted sql
+--changeset nofenak:15
+
+create extension if not exists pg_trgm;
+
+create index if not exists films_lower_title_trgm_idx
+    on films using gin (lower(title) gin_trgm_ops);
+
+create index if not exists films_category_idx
+    on films (category);
@@ -0,0 +1,34 @@
+--liquibase formatted sql
+--changeset nofenak:16
+
+create unique index if not exists rooms_id_uidx
+    on rooms (id);
+
+create index if not exists rooms_occupations_room_id_start_at_idx
+    on rooms_occupations (room_id, start_at);
+
+create index if not exists rooms_occupations_room_id_end_at_idx
+    on rooms_occupations (room_id, end_at);
+
+create index if not exists screenings_room_id_date_id_idx
+    on screenings (room_id, date, id);
+
+create index if not exists seats_screening_id_idx
+    on seats (screening_id);
+
+create index if not exists tickets_user_id_idx
+    on tickets (user_id);
+
+create index if not exists tickets_screening_id_seat_id_idx
+    on tickets (screening_id, seat_id);
+
+create unique index if not exists users_mail_uidx
+    on users (mail);
+
+create unique index if not exists users_password_reset_token_uidx
+    on users (password_reset_token)
+    where password_reset_token is not null;
+
+create index if not exists users_tokens_revoked_at_idx
+    on users (tokens_revoked_at)
+    where tokens_revoked_at is not null;
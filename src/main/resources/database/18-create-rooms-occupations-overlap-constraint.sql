@@ -0,0 +1,12 @@
+--liquibase formatted sql
+--changeset nofenak:17
+--preconditions onFail:CONTINUE onError:HALT
+--precondition-sql-check expectedResult:0 select count(*) from rooms_occupations o1 join rooms_occupations o2 on o1.room_id = o2.room_id and o1.id < o2.id and o1.start_at <= o2.end_at and o2.start_at <= o1.end_at
+
+-- Skipped until overlapping occupations left by older versions are removed, then added on the next start up.
+-- Periods are closed ('[]'), so back to back occupations collide, the same as in RoomSchedule.isFree.
+create extension if not exists btree_gist;
+
+alter table rooms_occupations
+    add constraint rooms_occupations_room_id_period_excl
+        exclude using gist (room_id with =, tsrange(start_at, end_at, '[]') with &&);
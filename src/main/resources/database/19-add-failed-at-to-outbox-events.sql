@@ -0,0 +1,15 @@
+--liquibase formatted sql
+--changeset nofenak:18
+
+alter table outbox_events
+    add column if not exists failed_at timestamp;
+
+update outbox_events
+set failed_at = now()
+where published_at is null and attempts >= 10;
+
+drop index if exists outbox_events_unpublished_id_idx;
+
+create index if not exists outbox_events_pending_id_idx
+    on outbox_events (id)
+    where published_at is null and failed_at is null;
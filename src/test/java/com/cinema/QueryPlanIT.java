@@ -0,0 +1,196 @@
+package com.cinema;
+
+import com.cinema.rooms.domain.RoomRepository;
+import com.cinema.rooms.domain.RoomScheduleRepository;
+import com.cinema.screenings.application.queries.ReadScreeningsBy;
+import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.SeatMapRepository;
+import com.cinema.shared.pagination.KeysetCursor;
+import com.cinema.tickets.application.queries.dto.TicketDtoRepository;
+import com.cinema.tickets.domain.TicketRepository;
+import com.cinema.users.domain.UserRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/** On a seeded large dataset no SQL issued by the hot repository methods may scan its main table */
+class QueryPlanIT extends SpringIT {
+
+    private static final String SEED_SQL = """
+            insert into users (mail, password, role, password_reset_token)
+            select 'user' || g || '@mail.com', 'password', 'COMMON', gen_random_uuid()
+            from generate_series(1, 20000) g;
+
+            insert into rooms (id, rows_number, row_seats_number)
+            select g::varchar, 10, 15
+            from generate_series(1, 1000) g;
+
+            insert into rooms_occupations (start_at, end_at, room_id)
+            select now() + (g % 100) * interval '1 day',
+                   now() + (g % 100) * interval '1 day' + interval '2 hours',
+                   (g % 1000 + 1)::varchar
+            from generate_series(1, 50000) g;
+
+            insert into screenings (date, end_date, film_id, room_id)
+            select now() + ((g % 1000) - 100) * interval '1 hour',
+                   now() + ((g % 1000) - 100) * interval '1 hour' + interval '2 hours',
+                   g % 100 + 1,
+                   (g % 1000 + 1)::varchar
+            from generate_series(1, 20000) g;
+
+            insert into seats (row_number, number, status, screening_id)
+            select g % 10 + 1, g % 15 + 1, 'FREE', g % 20000 + 1
+            from generate_series(1, 200000) g;
+
+            insert into tickets (status, screening_id, seat_id, user_id)
+            select case when g % 10 = 0 then 'CANCELLED' else 'ACTIVE' end, g % 20000 + 1, g, g % 20000 + 1
+            from generate_series(1, 100000) g;
+
+            analyze;
+            """;
+
+    private static final String PREPARED_QUERY = "hot_query";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SqlStatementsRecorder sqlStatementsRecorder;
+
+    @Autowired
+    private SeatMapRepository seatMapRepository;
+
+    @Autowired
+    private ScreeningRepository screeningRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketDtoRepository ticketDtoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomScheduleRepository roomScheduleRepository;
+
+    @Test
+    void hot_queries_do_not_scan_whole_tables() {
+        //given
+        jdbcTemplate.execute(SEED_SQL);
+        var hotQueries = recordHotQueries();
+
+        //when
+        var plans = hotQueries
+                .stream()
+                .map(this::explain)
+                .toList();
+
+        //then
+        var softAssertions = new SoftAssertions();
+        for (var index = 0; index < hotQueries.size(); index++) {
+            var hotQuery = hotQueries.get(index);
+            softAssertions
+                    .assertThat(plans.get(index))
+                    .as("Plan of query: %s", hotQuery.sql())
+                    .doesNotContain("Seq Scan on " + hotQuery.table() + " ");
+        }
+        softAssertions.assertAll();
+    }
+
+    private List<HotQuery> recordHotQueries() {
+        var now = LocalDateTime.now();
+        var hotQueries = new ArrayList<HotQuery>();
+        hotQueries.addAll(record("seats", () -> {
+            seatMapRepository.evict(123L);
+            seatMapRepository.readByScreeningId(123L);
+        }));
+        hotQueries.addAll(record("tickets", () -> ticketDtoRepository.readAllByUserId(42L, null, 20)));
+        hotQueries.addAll(record("tickets", () -> ticketDtoRepository.readAllByUserId(42L, new KeysetCursor(now, 42L), 20)));
+        hotQueries.addAll(record("tickets", () -> ticketRepository.existsAny(5L, List.of(5L, 6L))));
+        hotQueries.addAll(record("users", () -> userRepository.readyByMail("user42@mail.com")));
+        hotQueries.addAll(record("users", () -> userRepository.readByPasswordResetToken(UUID.randomUUID())));
+        hotQueries.addAll(record("screenings", () -> screeningRepository.readAllBy(
+                new ReadScreeningsBy(now.toLocalDate().plusDays(1), null, null, null, null, null, null),
+                null,
+                21
+        )));
+        hotQueries.addAll(record("screenings", () -> screeningRepository.readAllBy(
+                new ReadScreeningsBy(null, null, null, 7L, null, null, null),
+                null,
+                21
+        )));
+        hotQueries.addAll(record("screenings", () -> transactionTemplate.executeWithoutResult(
+                status -> screeningRepository.readEndedWithRoom(now, 100)
+        )));
+        hotQueries.addAll(record("rooms_occupations", () -> {
+            roomScheduleRepository.evict("3");
+            roomScheduleRepository.readByRoomId("3");
+        }));
+        hotQueries.addAll(record("rooms", () -> roomRepository.readById("3")));
+        return hotQueries;
+    }
+
+    private List<HotQuery> record(String table, Runnable repositoryCall) {
+        var statements = sqlStatementsRecorder.record(repositoryCall);
+        if (statements.isEmpty()) {
+            throw new IllegalStateException("No SQL statement issued for table: " + table);
+        }
+        return statements
+                .stream()
+                .map(sql -> new HotQuery(table, sql))
+                .toList();
+    }
+
+    /** Explains the plan of a JDBC prepared statement reused enough times to get a generic plan */
+    private String explain(HotQuery hotQuery) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (var statement = connection.createStatement()) {
+                var parametersNumber = 0;
+                var preparedSql = new StringBuilder();
+                for (var character : hotQuery.sql().toCharArray()) {
+                    if (character == '?') {
+                        preparedSql.append('$').append(++parametersNumber);
+                    } else {
+                        preparedSql.append(character);
+                    }
+                }
+                statement.execute("set plan_cache_mode = force_generic_plan");
+                statement.execute("prepare " + PREPARED_QUERY + " as " + preparedSql);
+                var parameters = parametersNumber == 0 ?
+                        "" :
+                        "(" + String.join(", ", Collections.nCopies(parametersNumber, "null")) + ")";
+                try (var resultSet = statement.executeQuery("explain execute " + PREPARED_QUERY + parameters)) {
+                    var plan = new StringJoiner("\n");
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                    return plan.toString();
+                } finally {
+                    statement.execute("deallocate " + PREPARED_QUERY);
+                    statement.execute("reset plan_cache_mode");
+                }
+            }
+        });
+    }
+
+    private record HotQuery(String table, String sql) {
+    }
+}
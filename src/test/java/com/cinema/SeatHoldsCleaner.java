@@ -0,0 +1,19 @@
+package com.cinema;
+
+import com.cinema.screenings.domain.SeatHoldRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+@Component
+public class SeatHoldsCleaner {
+
+    private final SeatHoldRepository seatHoldRepository;
+
+    /** Seat holds are kept in memory, so truncating tables does not remove them */
+    public void clean() {
+        seatHoldRepository.deleteAllExpired(LocalDateTime.MAX);
+    }
+}
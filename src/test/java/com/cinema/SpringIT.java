@@ -11,11 +11,15 @@ public abstract class SpringIT {
     @Autowired
     private SqlDatabaseCleaner sqlDatabaseCleaner;
 
+    @Autowired
+    private SeatHoldsCleaner seatHoldsCleaner;
+
     @Autowired
     protected WebTestClient webTestClient;
 
     @AfterEach
     void cleanDb() {
         sqlDatabaseCleaner.clean();
+        seatHoldsCleaner.clean();
     }
 }
@@ -0,0 +1,42 @@
+package com.cinema;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class SqlStatementsRecorder implements HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<List<String>> RECORDED_STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        var inspector = (StatementInspector) hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+            var recordedStatements = RECORDED_STATEMENTS.get();
+            if (recordedStatements != null) {
+                recordedStatements.add(sql);
+            }
+            return inspector == null ? sql : inspector.inspect(sql);
+        });
+    }
+
+    public List<String> record(Runnable action) {
+        var recordedStatements = new ArrayList<String>();
+        RECORDED_STATEMENTS.set(recordedStatements);
+        try {
+            action.run();
+        } finally {
+            RECORDED_STATEMENTS.remove();
+        }
+        return recordedStatements;
+    }
+}
@@ -65,6 +65,25 @@ class DeleteFilmControllerIT extends SpringIT {
         assertThat(filmRepository.existsByTitle(film.getTitle())).isFalse();
     }
 
+    @Test
+    void deleted_film_is_not_read_from_cache() {
+        //given
+        addAdminUser();
+        Film film = filmRepository.add(createFilm());
+        assertThat(filmRepository.readById(film.getId())).isPresent();
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .delete()
+                .uri(FILMS_BASE_ENDPOINT + "/" + film.getId())
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange();
+
+        //then
+        spec.expectStatus().isNoContent();
+        assertThat(filmRepository.readById(film.getId())).isEmpty();
+    }
+
     private void addCommonUser() {
         CreateUser command = new CreateUser(
                 USERNAME,
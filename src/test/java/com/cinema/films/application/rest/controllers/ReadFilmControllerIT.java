@@ -4,10 +4,13 @@ import com.cinema.SpringIT;
 import com.cinema.films.domain.Film;
 import com.cinema.films.domain.FilmCategory;
 import com.cinema.films.domain.FilmRepository;
+import com.cinema.shared.pagination.PageSize;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.Optional;
+
 import static com.cinema.films.FilmFixture.createFilm;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
@@ -43,6 +46,26 @@ class ReadFilmControllerIT extends SpringIT {
                 .jsonPath("$[0].durationInMinutes").isEqualTo(film.getDurationInMinutes());
     }
 
+    @Test
+    void films_are_read_without_paging_if_page_and_size_are_not_given() {
+        //given
+        var filmsNumber = PageSize.DEFAULT + 1;
+        for (var i = 0; i < filmsNumber; i++) {
+            filmRepository.add(createFilm("Film " + i));
+        }
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .get()
+                .uri(FILMS_BASE_ENDPOINT)
+                .exchange();
+
+        //then
+        spec
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(filmsNumber));
+    }
+
     @Test
     void films_are_read_by_title() {
         //given
@@ -66,6 +89,81 @@ class ReadFilmControllerIT extends SpringIT {
                 .jsonPath("$.*.title").value(everyItem(equalTo(title)));
     }
 
+    @Test
+    void films_are_searched_by_title_with_prefix_matches_first() {
+        //given
+        filmRepository.add(createFilm("The Matrix"));
+        filmRepository.add(createFilm("Matrix"));
+        filmRepository.add(createFilm("Avatar"));
+
+        //when
+        WebTestClient.ResponseSpec spec = searchFilms("MATRIX", null, null);
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(2))
+                .jsonPath("$[0].title").isEqualTo("Matrix")
+                .jsonPath("$[1].title").isEqualTo("The Matrix");
+    }
+
+    @Test
+    void films_are_searched_by_title_with_typo() {
+        //given
+        filmRepository.add(createFilm("Avatar"));
+        filmRepository.add(createFilm("Matrix"));
+
+        //when
+        WebTestClient.ResponseSpec spec = searchFilms("avatr", null, null);
+
+        //then
+        spec
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(1))
+                .jsonPath("$[0].title").isEqualTo("Avatar");
+    }
+
+    @Test
+    void films_search_is_paged() {
+        //given
+        filmRepository.add(createFilm("The Matrix"));
+        filmRepository.add(createFilm("Matrix"));
+
+        //when
+        WebTestClient.ResponseSpec spec = searchFilms("matrix", 1, 1);
+
+        //then
+        spec
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(1))
+                .jsonPath("$[0].title").isEqualTo("The Matrix");
+    }
+
+    @Test
+    void films_are_searched_by_title_and_filtered_by_exact_title() {
+        //given
+        filmRepository.add(createFilm("The Matrix"));
+        filmRepository.add(createFilm("Matrix"));
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(FILMS_BASE_ENDPOINT)
+                        .queryParam("search", "matrix")
+                        .queryParam("title", "The Matrix")
+                        .build())
+                .exchange();
+
+        //then
+        spec
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(1))
+                .jsonPath("$[0].title").isEqualTo("The Matrix");
+    }
+
     @Test
     void films_are_read_by_category() {
         //given
@@ -88,4 +186,16 @@ class ReadFilmControllerIT extends SpringIT {
                 .expectBody()
                 .jsonPath("$.*.category").value(everyItem(equalTo(category.name())));
     }
+
+    private WebTestClient.ResponseSpec searchFilms(String search, Integer page, Integer size) {
+        return webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(FILMS_BASE_ENDPOINT)
+                        .queryParam("search", search)
+                        .queryParamIfPresent("page", Optional.ofNullable(page))
+                        .queryParamIfPresent("size", Optional.ofNullable(size))
+                        .build())
+                .exchange();
+    }
 }
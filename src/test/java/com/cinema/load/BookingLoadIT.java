@@ -0,0 +1,317 @@
+package com.cinema.load;
+
+import com.cinema.SpringIT;
+import com.cinema.films.application.commands.handlers.CreateFilmHandler;
+import com.cinema.rooms.application.commands.CreateRoom;
+import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
+import com.cinema.screenings.application.commands.CreateScreening;
+import com.cinema.screenings.application.commands.handlers.CreateScreeningHandler;
+import com.cinema.screenings.application.queries.dto.ScreeningDto;
+import com.cinema.screenings.application.queries.dto.SeatDto;
+import com.cinema.screenings.domain.SeatStatus;
+import com.cinema.tickets.application.queries.dto.TicketDto;
+import com.cinema.tickets.domain.TicketStatus;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static com.cinema.screenings.ScreeningFixture.createCreateFilmCommand;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/** Booking rush against the whole application, run with ./mvnw -Pload test and tuned with -Dload.* properties */
+@Tag("load")
+@Slf4j
+class BookingLoadIT extends SpringIT {
+
+    private static final int VIRTUAL_USERS = Integer.getInteger("load.virtualUsers", 1000);
+    private static final int DURATION_IN_SECONDS = Integer.getInteger("load.durationInSeconds", 60);
+    private static final int USERS_NUMBER = Integer.getInteger("load.usersNumber", 200);
+    private static final int SCREENINGS_NUMBER = Integer.getInteger("load.screeningsNumber", 20);
+    private static final String PASSWORD = "12345";
+    private static final String DOUBLE_BOOKINGS_SQL = """
+            select count(*) from (
+                select screening_id, seat_id
+                from tickets
+                where status = 'ACTIVE'
+                group by screening_id, seat_id
+                having count(*) > 1
+            ) double_bookings
+            """;
+    private static final String INCONSISTENT_SEATS_SQL = """
+            select count(*)
+            from seats s
+            left join tickets t on t.seat_id = s.id and t.status = 'ACTIVE'
+            where (s.status = 'TAKEN') <> (t.id is not null)
+            """;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${threads.virtual.enabled}")
+    private boolean virtualThreadsEnabled;
+
+    @Autowired
+    private CreateRoomHandler createRoomHandler;
+
+    @Autowired
+    private CreateFilmHandler createFilmHandler;
+
+    @Autowired
+    private CreateScreeningHandler createScreeningHandler;
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latenciesByRequest = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> failuresByRequest = new ConcurrentHashMap<>();
+
+    private HttpClient httpClient;
+
+    @Test
+    void booking_rush_does_not_double_book_seats() throws Exception {
+        //given
+        seedRooms();
+        seedScreenings();
+        var authorizationHeaders = seedUsers();
+        var executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient
+                .newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_IN_SECONDS);
+
+        //when
+        var startedAt = System.nanoTime();
+        IntStream
+                .range(0, VIRTUAL_USERS)
+                .forEach(index -> executor.execute(() -> runVirtualUser(
+                        authorizationHeaders.get(index % authorizationHeaders.size()),
+                        deadline
+                )));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(DURATION_IN_SECONDS + 60L, TimeUnit.SECONDS)).isTrue();
+        var elapsedInSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        //then
+        var doubleBookings = jdbcTemplate.queryForObject(DOUBLE_BOOKINGS_SQL, Long.class);
+        var inconsistentSeats = jdbcTemplate.queryForObject(INCONSISTENT_SEATS_SQL, Long.class);
+        logReport(elapsedInSeconds, doubleBookings, inconsistentSeats);
+        assertThat(doubleBookings).isZero();
+        // seats of cancelled tickets are freed asynchronously by the outbox relay
+        await()
+                .atMost(Duration.ofSeconds(30))
+                .until(() -> jdbcTemplate.queryForObject(INCONSISTENT_SEATS_SQL, Long.class) == 0);
+    }
+
+    private void runVirtualUser(String authorizationHeader, long deadline) {
+        while (System.nanoTime() < deadline) {
+            try {
+                var dice = ThreadLocalRandom.current().nextInt(100);
+                if (dice < 50) {
+                    send("GET /screenings", get("/screenings"));
+                } else if (dice < 80) {
+                    send("GET /screenings/{id}/seats", get(randomScreeningSeatsUri()));
+                } else if (dice < 95) {
+                    bookRandomFreeSeat(authorizationHeader);
+                } else {
+                    cancelRandomTicket(authorizationHeader);
+                }
+            } catch (IOException exception) {
+                failuresByRequest.computeIfAbsent("I/O", key -> new LongAdder()).increment();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void bookRandomFreeSeat(String authorizationHeader) throws IOException, InterruptedException {
+        var seatsUri = randomScreeningSeatsUri();
+        var seats = objectMapper.readValue(
+                send("GET /screenings/{id}/seats", get(seatsUri)).body(),
+                new TypeReference<List<SeatDto>>() {}
+        );
+        var freeSeats = seats
+                .stream()
+                .filter(seat -> seat.status() == SeatStatus.FREE)
+                .toList();
+        if (freeSeats.isEmpty()) {
+            return;
+        }
+        var seat = freeSeats.get(ThreadLocalRandom.current().nextInt(freeSeats.size()));
+        var screeningId = seatsUri.split("/")[2];
+        var body = "{\"screeningId\":" + screeningId + ",\"seatId\":" + seat.id() + "}";
+        send(
+                "POST /tickets",
+                request("/tickets", authorizationHeader)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build()
+        );
+    }
+
+    private void cancelRandomTicket(String authorizationHeader) throws IOException, InterruptedException {
+        var tickets = objectMapper.readValue(
+                send("GET /tickets/my", request("/tickets/my", authorizationHeader).GET().build()).body(),
+                new TypeReference<List<TicketDto>>() {}
+        );
+        var activeTickets = tickets
+                .stream()
+                .filter(ticket -> ticket.status() == TicketStatus.ACTIVE)
+                .toList();
+        if (activeTickets.isEmpty()) {
+            return;
+        }
+        var ticket = activeTickets.get(ThreadLocalRandom.current().nextInt(activeTickets.size()));
+        send(
+                "PATCH /tickets/{id}/cancel",
+                request("/tickets/" + ticket.id() + "/cancel", authorizationHeader)
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                        .build()
+        );
+    }
+
+    private HttpResponse<String> send(String name, HttpRequest request) throws IOException, InterruptedException {
+        var start = System.nanoTime();
+        var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        latenciesByRequest
+                .computeIfAbsent(name, key -> new ConcurrentLinkedQueue<>())
+                .add(System.nanoTime() - start);
+        if (response.statusCode() >= 400) {
+            failuresByRequest.computeIfAbsent(name + " " + response.statusCode(), key -> new LongAdder()).increment();
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest
+                .newBuilder(uri(path))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String authorizationHeader) {
+        return HttpRequest
+                .newBuilder(uri(path))
+                .header("Authorization", authorizationHeader);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String randomScreeningSeatsUri() {
+        return "/screenings/" + (ThreadLocalRandom.current().nextInt(SCREENINGS_NUMBER) + 1) + "/seats";
+    }
+
+    private void seedRooms() throws IOException {
+        try (var inputStream = new ClassPathResource("rooms_config.json").getInputStream()) {
+            objectMapper
+                    .readValue(inputStream, new TypeReference<List<CreateRoom>>() {})
+                    .forEach(createRoomHandler::handle);
+        }
+    }
+
+    private void seedScreenings() {
+        createFilmHandler.handle(createCreateFilmCommand());
+        var roomsNumber = jdbcTemplate.queryForObject("select count(*) from rooms", Integer.class);
+        var firstScreeningDate = LocalDateTime
+                .now()
+                .plusDays(8)
+                .withHour(8)
+                .withMinute(0)
+                .withSecond(0)
+                .withNano(0);
+        IntStream
+                .range(0, SCREENINGS_NUMBER)
+                .mapToObj(index -> firstScreeningDate.plusHours(3L * (index / roomsNumber)))
+                .forEach(date -> createScreeningHandler.handle(new CreateScreening(date, 1L)));
+    }
+
+    private List<String> seedUsers() {
+        var authorizationHeaders = new ArrayList<String>();
+        IntStream
+                .rangeClosed(1, USERS_NUMBER)
+                .mapToObj(index -> "user" + index + "@mail.com")
+                .forEach(mail -> {
+                    createUserHandler.handle(new CreateUser(mail, PASSWORD));
+                    var credentials = (mail + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8);
+                    authorizationHeaders.add("Basic " + Base64.getEncoder().encodeToString(credentials));
+                });
+        return authorizationHeaders;
+    }
+
+    private void logReport(double elapsedInSeconds, Long doubleBookings, Long inconsistentSeats) {
+        var report = new StringBuilder()
+                .append("\nServer threads: ").append(virtualThreadsEnabled ? "virtual" : "platform pool")
+                .append(", virtual users: ").append(VIRTUAL_USERS)
+                .append(", duration: ").append(String.format("%.1f s", elapsedInSeconds));
+        var totalRequests = 0L;
+        for (var entry : new TreeMap<>(latenciesByRequest).entrySet()) {
+            var latencies = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(latencies);
+            totalRequests += latencies.length;
+            report.append(String.format(
+                    "%n%-28s requests: %8d, throughput: %8.1f/s, p50: %8.2f ms, p99: %8.2f ms, p999: %8.2f ms",
+                    entry.getKey(),
+                    latencies.length,
+                    latencies.length / elapsedInSeconds,
+                    percentileInMillis(latencies, 0.5),
+                    percentileInMillis(latencies, 0.99),
+                    percentileInMillis(latencies, 0.999)
+            ));
+        }
+        report.append(String.format("%nTotal throughput: %.1f/s", totalRequests / elapsedInSeconds));
+        new TreeMap<>(failuresByRequest).forEach((name, count) ->
+                report.append("\nFailed ").append(name).append(": ").append(count.sum())
+        );
+        report
+                .append("\nDouble bookings: ").append(doubleBookings)
+                .append("\nSeats inconsistent with tickets right after the run: ").append(inconsistentSeats);
+        log.info("Load test report:{}", report);
+    }
+
+    private static double percentileInMillis(long[] sortedLatencies, double percentile) {
+        var index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.cinema.mails;
+
+import com.cinema.mails.domain.Mail;
+import com.cinema.mails.domain.MailSender;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Profile("test")
+public class FakeMailSender implements MailSender {
+
+    private final List<Mail> sentMails = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger failingAttemptsNumber = new AtomicInteger();
+
+    @Override
+    public void sendMail(Mail mail) {
+        if (failingAttemptsNumber.getAndUpdate(number -> Math.max(number - 1, 0)) > 0) {
+            throw new MailSendException("Simulated SMTP failure");
+        }
+        sentMails.add(mail);
+    }
+
+    public List<Mail> getSentMails() {
+        return List.copyOf(sentMails);
+    }
+
+    public void failNextAttempts(int attemptsNumber) {
+        failingAttemptsNumber.set(attemptsNumber);
+    }
+
+    public void reset() {
+        sentMails.clear();
+        failingAttemptsNumber.set(0);
+    }
+}
@@ -0,0 +1,69 @@
+package com.cinema.rooms.domain.allocation;
+
+import com.cinema.rooms.domain.RoomOccupation;
+import com.cinema.rooms.domain.RoomSchedule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomAllocationSolverTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 1);
+
+    private final RoomAllocationSolver solver = new RoomAllocationSolver();
+
+    @Test
+    void day_is_planned_with_most_demanding_screenings_first() {
+        //given
+        var rooms = List.of(
+                new RoomCandidate("small", 50, new RoomSchedule(List.of())),
+                new RoomCandidate("big", 200, new RoomSchedule(List.of()))
+        );
+        var requests = List.of(
+                new RoomAllocationRequest(1L, at(10, 0), at(12, 0), 40),
+                new RoomAllocationRequest(2L, at(11, 0), at(13, 0), 40),
+                new RoomAllocationRequest(3L, at(12, 30), at(14, 30), 40),
+                new RoomAllocationRequest(4L, at(10, 0), at(12, 0), 150),
+                new RoomAllocationRequest(5L, at(13, 0), at(15, 0), 100)
+        );
+
+        //when
+        var plan = solver.plan(requests, rooms);
+
+        //then
+        assertThat(plan).isEqualTo(
+                Map.of(
+                        1L, "small",
+                        3L, "small",
+                        4L, "big",
+                        5L, "big"
+                )
+        );
+        assertThat(rooms).allSatisfy(room -> assertThat(room.schedule().isFree(at(10, 0), at(15, 0))).isTrue());
+    }
+
+    @Test
+    void screening_is_placed_next_to_closest_occupation_among_equal_rooms() {
+        //given
+        var rooms = List.of(
+                new RoomCandidate("a", 100, new RoomSchedule(List.of())),
+                new RoomCandidate("b", 100, new RoomSchedule(List.of(new RoomOccupation(at(8, 0), at(9, 50)))))
+        );
+
+        //when
+        var roomId = solver.findBestRoom(rooms, at(10, 0), at(12, 0), 100);
+
+        //then
+        assertThat(roomId).hasValue("b");
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return DAY.atTime(LocalTime.of(hour, minute));
+    }
+}
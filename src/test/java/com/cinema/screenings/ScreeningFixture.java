@@ -35,12 +35,25 @@ public final class ScreeningFixture {
         String roomId = "1";
         return new Screening(
                 screeningDate,
+                screeningDate.plusMinutes(FILM_DURATION_IN_MINUTES),
                 FILM_ID,
                 roomId,
                 List.of(seat)
         );
     }
 
+    public static Screening createScreening(LocalDateTime screeningDate, Long filmId) {
+        Seat seat = new Seat(1, 2, SeatStatus.FREE);
+        String roomId = "1";
+        return new Screening(
+                screeningDate,
+                screeningDate.plusMinutes(FILM_DURATION_IN_MINUTES),
+                filmId,
+                roomId,
+                List.of(seat)
+        );
+    }
+
     public static CreateFilm createCreateFilmCommand() {
         return new CreateFilm(
                 FILM_TITLE,
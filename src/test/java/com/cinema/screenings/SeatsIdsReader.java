@@ -0,0 +1,23 @@
+package com.cinema.screenings;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** Seat ids come from blocks allocated by Hibernate, which outlive truncated tables, so tests cannot assume them */
+@Component
+@RequiredArgsConstructor
+public class SeatsIdsReader {
+
+    private static final String SEATS_IDS_SQL =
+            "select id from seats where screening_id = ? order by row_number, number";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** @return seats ids ordered by row and number */
+    public List<Long> readByScreeningId(Long screeningId) {
+        return jdbcTemplate.queryForList(SEATS_IDS_SQL, Long.class, screeningId);
+    }
+}
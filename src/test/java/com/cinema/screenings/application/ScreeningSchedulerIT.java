@@ -0,0 +1,202 @@
+package com.cinema.screenings.application;
+
+import com.cinema.SpringIT;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cinema.rooms.domain.Room;
+import com.cinema.rooms.domain.RoomRepository;
+import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.events.ScreeningEndedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.cinema.rooms.RoomFixture.createRoom;
+import static com.cinema.screenings.ScreeningFixture.FILM_DURATION_IN_MINUTES;
+import static com.cinema.screenings.ScreeningFixture.createScreening;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ScreeningSchedulerIT extends SpringIT {
+
+    private static final int ENDED_SCREENINGS_NUMBER = 3;
+    private static final int CONCURRENTLY_ENDED_SCREENINGS_NUMBER = 10;
+
+    @Autowired
+    private ScreeningScheduler screeningScheduler;
+
+    @Autowired
+    private ScreeningRepository screeningRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Clock clock;
+
+    @Test
+    void ended_screenings_are_released_from_rooms_in_chunks() {
+        //given
+        var now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+        var endedScreeningsDates = IntStream
+                .range(0, ENDED_SCREENINGS_NUMBER)
+                .mapToObj(index -> now.minusDays(1).plusHours(3L * index))
+                .toList();
+        var runningScreeningDate = now.minusMinutes(FILM_DURATION_IN_MINUTES / 2);
+        var room = addRoomOccupiedOn(endedScreeningsDates, runningScreeningDate);
+        var endedScreeningsIds = endedScreeningsDates
+                .stream()
+                .map(date -> screeningRepository.add(createScreening(date)).getId())
+                .toList();
+        var runningScreeningId = screeningRepository.add(createScreening(runningScreeningDate)).getId();
+
+        //when
+        screeningScheduler.run();
+
+        //then
+        assertThat(endedScreeningsIds).allSatisfy(
+                id -> assertThat(screeningRepository.readById(id))
+                        .hasValueSatisfying(screening -> assertThat(screening.getRoomId()).isNull())
+        );
+        assertThat(screeningRepository.readById(runningScreeningId))
+                .hasValueSatisfying(screening -> assertThat(screening.getRoomId()).isEqualTo(room.getId()));
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    assertThat(readPublishedScreeningEndedEventsNumber()).isEqualTo(ENDED_SCREENINGS_NUMBER);
+                    assertThat(readRoomOccupationsStarts(room.getId())).containsExactly(runningScreeningDate);
+                });
+    }
+
+    @Test
+    void ended_screenings_are_released_once_by_concurrent_sweeps() throws Exception {
+        //given
+        var now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+        var endedScreeningsDates = IntStream
+                .range(0, CONCURRENTLY_ENDED_SCREENINGS_NUMBER)
+                .mapToObj(index -> now.minusDays(2).plusHours(3L * index))
+                .toList();
+        var room = createRoom();
+        endedScreeningsDates.forEach(date -> room.addOccupation(date, date.plusMinutes(FILM_DURATION_IN_MINUTES)));
+        roomRepository.add(room);
+        endedScreeningsDates.forEach(date -> screeningRepository.add(createScreening(date)));
+        var sweepsStart = new CountDownLatch(1);
+        Callable<Void> sweep = () -> {
+            sweepsStart.await();
+            screeningScheduler.run();
+            return null;
+        };
+
+        //when
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var sweeps = List.of(executor.submit(sweep), executor.submit(sweep));
+            sweepsStart.countDown();
+            for (var future : sweeps) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        assertThat(readScreeningEndedEventsDates()).containsExactlyInAnyOrderElementsOf(endedScreeningsDates);
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(readRoomOccupationsStarts(room.getId())).isEmpty());
+    }
+
+    @Test
+    void screenings_without_end_date_are_backfilled_by_migration() {
+        //given
+        var screeningDate = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES).minusDays(1);
+        var filmId = jdbcTemplate.queryForObject(
+                "insert into films (title, category, year, duration_in_minutes) values ('FILM 1', 'COMEDY', 2023, ?) returning id",
+                Long.class,
+                FILM_DURATION_IN_MINUTES
+        );
+        var screeningId = screeningRepository.add(createScreening(screeningDate, filmId)).getId();
+        jdbcTemplate.update("update screenings set end_date = null where id = ?", screeningId);
+
+        //when
+        new ResourceDatabasePopulator(
+                new ClassPathResource("database/15-add-end-date-to-screenings.sql")
+        ).execute(dataSource);
+
+        //then
+        assertThat(
+                jdbcTemplate.queryForObject(
+                        "select end_date from screenings where id = ?",
+                        LocalDateTime.class,
+                        screeningId
+                )
+        ).isEqualTo(screeningDate.plusMinutes(FILM_DURATION_IN_MINUTES));
+    }
+
+    private Room addRoomOccupiedOn(List<LocalDateTime> endedScreeningsDates, LocalDateTime runningScreeningDate) {
+        var room = createRoom();
+        endedScreeningsDates.forEach(date -> room.addOccupation(date, date.plusMinutes(FILM_DURATION_IN_MINUTES)));
+        room.addOccupation(runningScreeningDate, runningScreeningDate.plusMinutes(FILM_DURATION_IN_MINUTES));
+        return roomRepository.add(room);
+    }
+
+    private Integer readPublishedScreeningEndedEventsNumber() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from outbox_events where type = ? and published_at is not null",
+                Integer.class,
+                ScreeningEndedEvent.class.getName()
+        );
+    }
+
+    private List<LocalDateTime> readScreeningEndedEventsDates() {
+        return jdbcTemplate
+                .queryForList(
+                        "select payload from outbox_events where type = ?",
+                        String.class,
+                        ScreeningEndedEvent.class.getName()
+                )
+                .stream()
+                .map(this::readScreeningEndedEvent)
+                .map(ScreeningEndedEvent::screeningDate)
+                .toList();
+    }
+
+    private ScreeningEndedEvent readScreeningEndedEvent(String payload) {
+        try {
+            return objectMapper.readValue(payload, ScreeningEndedEvent.class);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private List<LocalDateTime> readRoomOccupationsStarts(String roomId) {
+        return jdbcTemplate.queryForList(
+                "select start_at from rooms_occupations where room_id = ?",
+                LocalDateTime.class,
+                roomId
+        );
+    }
+}
@@ -1,10 +1,13 @@
 package com.cinema.screenings.application.rest.controllers;
 
 import com.cinema.SpringIT;
+import com.cinema.films.application.commands.CreateFilm;
 import com.cinema.films.application.commands.handlers.CreateFilmHandler;
+import com.cinema.rooms.application.commands.CreateRoom;
 import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
 import com.cinema.rooms.domain.exceptions.RoomsNoAvailableException;
 import com.cinema.screenings.application.commands.CreateScreening;
+import com.cinema.screenings.application.commands.handlers.CreateScreeningHandler;
 import com.cinema.screenings.application.queries.dto.ScreeningDto;
 import com.cinema.screenings.domain.Screening;
 import com.cinema.screenings.domain.ScreeningRepository;
@@ -13,16 +16,19 @@ import com.cinema.users.application.commands.CreateAdmin;
 import com.cinema.users.application.commands.CreateUser;
 import com.cinema.users.application.commands.handlers.CreateAdminHandler;
 import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.cinema.screenings.ScreeningFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
 class CreateScreeningControllerIT extends SpringIT {
@@ -40,12 +46,21 @@ class CreateScreeningControllerIT extends SpringIT {
     @Autowired
     private CreateRoomHandler createRoomHandler;
 
+    @Autowired
+    private CreateScreeningHandler createScreeningHandler;
+
     @Autowired
     private CreateAdminHandler createAdminHandler;
 
     @Autowired
     private CreateUserHandler createUserHandler;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void screening_is_created_only_by_admin() {
         //given
@@ -102,6 +117,103 @@ class CreateScreeningControllerIT extends SpringIT {
                 .jsonPath("$[0].filmTitle").isEqualTo(expectedDto.get(0).filmTitle());
     }
 
+    @Test
+    void screening_is_created_with_free_seats_of_room() {
+        //given
+        addAdminUser();
+        addFilm("Sample title");
+        addRoom();
+        CreateScreening command = new CreateScreening(SCREENING_DATE, 1L);
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .post()
+                .uri(SCREENINGS_BASE_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(command)
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange();
+
+        //then
+        spec.expectStatus().isCreated();
+        webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT + "/1/seats")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(ROOM_ROWS_NUMBER * ROOM_ROW_SEATS_NUMBER)
+                .jsonPath("$[?(@.status != 'FREE')]").isEmpty();
+    }
+
+    @Test
+    void seats_of_screening_are_inserted_in_batches() {
+        //given
+        addAdminUser();
+        addFilm("Sample title");
+        addRoom();
+        int seatsNumber = ROOM_ROWS_NUMBER * ROOM_ROW_SEATS_NUMBER;
+
+        //when
+        postScreening(new CreateScreening(SCREENING_DATE, 1L));
+
+        //then
+        var createScreeningStatements = meterRegistry
+                .get("handler.queries")
+                .tag("handler", "CreateScreeningHandler")
+                .summary();
+        assertThat(createScreeningStatements.count()).isPositive();
+        assertThat(createScreeningStatements.max()).isLessThan(seatsNumber / 5.0);
+    }
+
+    @Test
+    void screening_is_created_in_smallest_room_with_enough_seats() {
+        //given
+        addAdminUser();
+        addFilm("Sample title");
+        createRoomHandler.handle(new CreateRoom("big", 20, 20));
+        createRoomHandler.handle(new CreateRoom("small", 5, 10));
+        createRoomHandler.handle(new CreateRoom("medium", 10, 15));
+
+        //when
+        postScreening(new CreateScreening(SCREENING_DATE, 1L, 100));
+        postScreening(new CreateScreening(SCREENING_DATE.plusDays(1), 1L, null));
+
+        //then
+        webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT)
+                .exchange()
+                .expectBody()
+                .jsonPath("$[0].roomId").isEqualTo("medium")
+                .jsonPath("$[1].roomId").isEqualTo("small");
+    }
+
+    @Test
+    void screening_is_created_in_room_leaving_shortest_idle_gap() {
+        //given
+        addAdminUser();
+        addFilm("Sample title");
+        createRoomHandler.handle(new CreateRoom("1", 10, 15));
+        createRoomHandler.handle(new CreateRoom("2", 10, 15));
+        postScreening(new CreateScreening(SCREENING_DATE, 1L));
+        postScreening(new CreateScreening(SCREENING_DATE.plusMinutes(30), 1L));
+
+        //when
+        postScreening(new CreateScreening(SCREENING_DATE.plusHours(5), 1L));
+
+        //then
+        webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT)
+                .exchange()
+                .expectBody()
+                .jsonPath("$[0].roomId").isEqualTo("1")
+                .jsonPath("$[1].roomId").isEqualTo("2")
+                .jsonPath("$[2].roomId").isEqualTo("2");
+    }
+
     @Test
     void screening_and_current_date_difference_is_min_7_days() {
         //given
@@ -191,11 +303,101 @@ class CreateScreeningControllerIT extends SpringIT {
                 .jsonPath("$.message", equalTo(expectedMessage));
     }
 
+    @Test
+    void screening_cannot_enclose_other_screening_in_the_same_room() {
+        //given
+        addAdminUser();
+        addRoom();
+        addFilm("Short film");
+        createFilmHandler.handle(
+                new CreateFilm(
+                        "Long film",
+                        FILM_CATEGORY,
+                        FILM_YEAR,
+                        FILM_DURATION_IN_MINUTES * 3
+                )
+        );
+        Long shortFilmId = 1L;
+        Long longFilmId = 2L;
+        createScreeningHandler.handle(new CreateScreening(SCREENING_DATE, shortFilmId));
+        CreateScreening command = new CreateScreening(
+                SCREENING_DATE.minusMinutes(10),
+                longFilmId
+        );
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .post()
+                .uri(SCREENINGS_BASE_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(command)
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange();
+
+        //then
+        String expectedMessage = new RoomsNoAvailableException().getMessage();
+        spec
+                .expectStatus()
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message", equalTo(expectedMessage));
+    }
+
+    @Test
+    void screening_cannot_overlap_occupation_added_by_other_instance() {
+        //given
+        addAdminUser();
+        addFilm("Sample title");
+        addRoom();
+        Long filmId = 1L;
+        postScreening(new CreateScreening(SCREENING_DATE, filmId));
+        LocalDateTime otherInstanceScreeningDate = SCREENING_DATE.plusDays(1);
+        jdbcTemplate.update(
+                "insert into rooms_occupations (start_at, end_at, room_id) values (?, ?, ?)",
+                otherInstanceScreeningDate,
+                otherInstanceScreeningDate.plusMinutes(FILM_DURATION_IN_MINUTES),
+                ROOM_CUSTOM_ID
+        );
+        CreateScreening command = new CreateScreening(otherInstanceScreeningDate.plusMinutes(10), filmId);
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .post()
+                .uri(SCREENINGS_BASE_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(command)
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange();
+
+        //then
+        String expectedMessage = new RoomsNoAvailableException().getMessage();
+        spec
+                .expectStatus()
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message", equalTo(expectedMessage));
+        assertThat(
+                jdbcTemplate.queryForObject("select count(*) from screenings", Integer.class)
+        ).isEqualTo(1);
+    }
+
     private Screening addScreening() {
         var screening = createScreening(SCREENING_DATE);
         return screeningRepository.add(screening);
     }
 
+    private void postScreening(CreateScreening command) {
+        webTestClient
+                .post()
+                .uri(SCREENINGS_BASE_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(command)
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange()
+                .expectStatus()
+                .isCreated();
+    }
+
     private void addRoom() {
         createRoomHandler.handle(createCreateRoomCommand());
     }
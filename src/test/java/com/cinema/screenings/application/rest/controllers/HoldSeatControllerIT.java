@@ -0,0 +1,188 @@
+package com.cinema.screenings.application.rest.controllers;
+
+import com.cinema.SpringIT;
+import com.cinema.screenings.SeatsIdsReader;
+import com.cinema.films.application.commands.handlers.CreateFilmHandler;
+import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
+import com.cinema.screenings.application.commands.CreateScreening;
+import com.cinema.screenings.application.commands.handlers.CreateScreeningHandler;
+import com.cinema.screenings.domain.SeatStatus;
+import com.cinema.screenings.domain.exceptions.SeatNotAvailableException;
+import com.cinema.tickets.application.commands.BookTicket;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static com.cinema.screenings.ScreeningFixture.FILM_ID;
+import static com.cinema.screenings.ScreeningFixture.SCREENING_DATE;
+import static com.cinema.screenings.ScreeningFixture.createCreateFilmCommand;
+import static com.cinema.screenings.ScreeningFixture.createCreateRoomCommand;
+import static org.hamcrest.Matchers.equalTo;
+
+class HoldSeatControllerIT extends SpringIT {
+
+    private static final String SCREENINGS_BASE_ENDPOINT = "/screenings";
+    private static final String username = "user1@mail.com";
+    private static final String otherUsername = "user2@mail.com";
+    private static final String password = "12345";
+    private static final Long screeningId = 1L;
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Autowired
+    private SeatsIdsReader seatsIdsReader;
+
+    @Autowired
+    private CreateFilmHandler createFilmHandler;
+
+    @Autowired
+    private CreateRoomHandler createRoomHandler;
+
+    @Autowired
+    private CreateScreeningHandler createScreeningHandler;
+
+    @SpyBean
+    private Clock clock;
+
+    @Value("${screenings.seatHoldTtlInSeconds}")
+    private long seatHoldTtlInSeconds;
+
+    private Long seatId;
+
+    @BeforeEach
+    void setUp() {
+        createUserHandler.handle(new CreateUser(username, password));
+        createUserHandler.handle(new CreateUser(otherUsername, password));
+        createFilmHandler.handle(createCreateFilmCommand());
+        createRoomHandler.handle(createCreateRoomCommand());
+        createScreeningHandler.handle(new CreateScreening(SCREENING_DATE, FILM_ID));
+        seatId = seatsIdsReader.readByScreeningId(screeningId).get(0);
+    }
+
+    @Test
+    void seat_is_held() {
+        //when
+        WebTestClient.ResponseSpec spec = holdSeat(username);
+
+        //then
+        spec.expectStatus().isOk();
+        webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT + "/" + screeningId + "/seats")
+                .exchange()
+                .expectBody()
+                .jsonPath("$[0].status").isEqualTo(SeatStatus.HELD.name())
+                .jsonPath("$[1].status").isEqualTo(SeatStatus.FREE.name());
+    }
+
+    @Test
+    void seat_is_held_by_one_user() {
+        //given
+        holdSeat(username).expectStatus().isOk();
+
+        //when
+        WebTestClient.ResponseSpec spec = holdSeat(otherUsername);
+
+        //then
+        String expectedMessage = new SeatNotAvailableException().getMessage();
+        spec
+                .expectStatus()
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message", equalTo(expectedMessage));
+    }
+
+    @Test
+    void seat_is_held_for_existing_seat() {
+        //given
+        Long nonExistingSeatId = 0L;
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .post()
+                .uri(SCREENINGS_BASE_ENDPOINT + "/" + screeningId + "/seats/" + nonExistingSeatId + "/hold")
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange();
+
+        //then
+        spec.expectStatus().isNotFound();
+    }
+
+    @Test
+    void taken_seat_is_not_held() {
+        //given
+        bookTicket(username).expectStatus().isCreated();
+
+        //when
+        WebTestClient.ResponseSpec spec = holdSeat(otherUsername);
+
+        //then
+        spec.expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void held_seat_is_booked_only_by_holder() {
+        //given
+        holdSeat(username).expectStatus().isOk();
+
+        //when
+        WebTestClient.ResponseSpec otherUserSpec = bookTicket(otherUsername);
+        WebTestClient.ResponseSpec holderSpec = bookTicket(username);
+
+        //then
+        otherUserSpec.expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        holderSpec.expectStatus().isCreated();
+        webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT + "/" + screeningId + "/seats")
+                .exchange()
+                .expectBody()
+                .jsonPath("$[0].status").isEqualTo(SeatStatus.TAKEN.name());
+    }
+
+    @Test
+    void expired_seat_hold_is_released() {
+        //given
+        holdSeat(username).expectStatus().isOk();
+        Instant afterHoldExpiry = Instant.now().plusSeconds(seatHoldTtlInSeconds + 1);
+        Mockito
+                .when(clock.instant())
+                .thenReturn(afterHoldExpiry);
+
+        //when
+        WebTestClient.ResponseSpec spec = holdSeat(otherUsername);
+
+        //then
+        spec.expectStatus().isOk();
+    }
+
+    private WebTestClient.ResponseSpec holdSeat(String username) {
+        return webTestClient
+                .post()
+                .uri(SCREENINGS_BASE_ENDPOINT + "/" + screeningId + "/seats/" + seatId + "/hold")
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec bookTicket(String username) {
+        return webTestClient
+                .post()
+                .uri("/tickets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookTicket(screeningId, seatId))
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange();
+    }
+}
@@ -0,0 +1,125 @@
+package com.cinema.screenings.application.rest.controllers;
+
+import com.cinema.SpringIT;
+import com.cinema.films.application.commands.handlers.CreateFilmHandler;
+import com.cinema.films.domain.exceptions.FilmNotFoundException;
+import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
+import com.cinema.rooms.domain.exceptions.RoomsNoAvailableException;
+import com.cinema.users.application.commands.CreateAdmin;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.handlers.CreateAdminHandler;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static com.cinema.screenings.ScreeningFixture.SCREENING_DATE;
+import static com.cinema.screenings.ScreeningFixture.createCreateFilmCommand;
+import static com.cinema.screenings.ScreeningFixture.createCreateRoomCommand;
+
+class ImportScreeningsControllerIT extends SpringIT {
+
+    private static final String SCREENINGS_BASE_ENDPOINT = "/screenings";
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "12345";
+
+    @Autowired
+    private CreateFilmHandler createFilmHandler;
+
+    @Autowired
+    private CreateRoomHandler createRoomHandler;
+
+    @Autowired
+    private CreateAdminHandler createAdminHandler;
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Value("${screenings.importMaxRows}")
+    private int importMaxRows;
+
+    @Test
+    void screenings_are_imported_only_by_admin() {
+        //given
+        createUserHandler.handle(new CreateUser(USERNAME, PASSWORD));
+
+        //when
+        WebTestClient.ResponseSpec spec = importScreenings("");
+
+        //then
+        spec.expectStatus().isForbidden();
+    }
+
+    @Test
+    void screenings_are_imported_with_result_per_row() {
+        //given
+        createAdminHandler.handle(new CreateAdmin(USERNAME, PASSWORD));
+        createFilmHandler.handle(createCreateFilmCommand("Sample title"));
+        createRoomHandler.handle(createCreateRoomCommand());
+        String screening = """
+                {"date": "%s", "filmId": %d}
+                """;
+        String body = screening.formatted(SCREENING_DATE, 1L)
+                + screening.formatted(SCREENING_DATE.plusDays(1), 1L)
+                + screening.formatted(SCREENING_DATE, 1L)
+                + screening.formatted(SCREENING_DATE.plusDays(2), 2L)
+                + "not json\n"
+                + "{\"filmId\": 1}\n";
+
+        //when
+        WebTestClient.ResponseSpec spec = importScreenings(body);
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(6)
+                .jsonPath("$[0].line").isEqualTo(1)
+                .jsonPath("$[0].screeningId").isEqualTo(1)
+                .jsonPath("$[1].screeningId").isEqualTo(2)
+                .jsonPath("$[2].error").isEqualTo(new RoomsNoAvailableException().getMessage())
+                .jsonPath("$[3].error").isEqualTo(new FilmNotFoundException().getMessage())
+                .jsonPath("$[4].error").isEqualTo("Invalid JSON")
+                .jsonPath("$[5].line").isEqualTo(6)
+                .jsonPath("$[5].error").isEqualTo("date must not be null");
+        webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT)
+                .exchange()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2);
+    }
+
+    @Test
+    void screenings_import_stops_after_rows_limit() {
+        //given
+        createAdminHandler.handle(new CreateAdmin(USERNAME, PASSWORD));
+        String body = "not json\n".repeat(importMaxRows + 1);
+
+        //when
+        WebTestClient.ResponseSpec spec = importScreenings(body);
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(importMaxRows + 1)
+                .jsonPath("$[%d].error".formatted(importMaxRows - 1)).isEqualTo("Invalid JSON")
+                .jsonPath("$[%d].line".formatted(importMaxRows)).isEqualTo(importMaxRows + 1)
+                .jsonPath("$[%d].error".formatted(importMaxRows)).isEqualTo("Rows limit " + importMaxRows + " exceeded");
+    }
+
+    private WebTestClient.ResponseSpec importScreenings(String body) {
+        return webTestClient
+                .post()
+                .uri(SCREENINGS_BASE_ENDPOINT + "/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange();
+    }
+}
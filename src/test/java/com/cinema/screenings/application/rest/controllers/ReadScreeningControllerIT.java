@@ -4,15 +4,22 @@ import com.cinema.SpringIT;
 import com.cinema.films.application.commands.handlers.CreateFilmHandler;
 import com.cinema.screenings.domain.Screening;
 import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.shared.pagination.InvalidCursorException;
+import com.cinema.shared.pagination.KeysetPage;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static com.cinema.screenings.ScreeningFixture.SCREENING_DATE;
 import static com.cinema.screenings.ScreeningFixture.createCreateFilmCommand;
 import static com.cinema.screenings.ScreeningFixture.createScreening;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
@@ -51,6 +58,34 @@ class ReadScreeningControllerIT extends SpringIT {
                 .jsonPath("$[0].filmTitle").isEqualTo(filmTitle);
     }
 
+    @Test
+    void screenings_are_read_with_films_titles() {
+        //given
+        String firstFilmTitle = "Title 1";
+        String secondFilmTitle = "Title 2";
+        addFilm(firstFilmTitle);
+        addFilm(secondFilmTitle);
+        screeningRepository.add(createScreening(SCREENING_DATE, 2L));
+        screeningRepository.add(createScreening(SCREENING_DATE.plusHours(3), 1L));
+        screeningRepository.add(createScreening(SCREENING_DATE.plusHours(6), 2L));
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT)
+                .exchange();
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(3))
+                .jsonPath("$[0].filmTitle").isEqualTo(secondFilmTitle)
+                .jsonPath("$[1].filmTitle").isEqualTo(firstFilmTitle)
+                .jsonPath("$[2].filmTitle").isEqualTo(secondFilmTitle);
+    }
+
     @Test
     void screenings_are_read_by_date() {
         //given
@@ -77,6 +112,109 @@ class ReadScreeningControllerIT extends SpringIT {
                 .jsonPath("$.[*].date").isEqualTo(screeningWithRequiredDate.getDate().toString());
     }
 
+    @Test
+    void screenings_are_read_page_by_page() {
+        //given
+        addFilm();
+        List<Screening> screenings = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            screenings.add(screeningRepository.add(createScreening(SCREENING_DATE.plusHours(3L * i))));
+        }
+
+        //when
+        EntityExchangeResult<byte[]> firstPage = readPage(null)
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .exists(KeysetPage.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(2))
+                .jsonPath("$[0].id").isEqualTo(screenings.get(0).getId())
+                .jsonPath("$[1].id").isEqualTo(screenings.get(1).getId())
+                .returnResult();
+        String secondPageCursor = firstPage
+                .getResponseHeaders()
+                .getFirst(KeysetPage.NEXT_CURSOR_HEADER);
+        EntityExchangeResult<byte[]> secondPage = readPage(secondPageCursor)
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(2))
+                .jsonPath("$[0].id").isEqualTo(screenings.get(2).getId())
+                .jsonPath("$[1].id").isEqualTo(screenings.get(3).getId())
+                .returnResult();
+        String lastPageCursor = secondPage
+                .getResponseHeaders()
+                .getFirst(KeysetPage.NEXT_CURSOR_HEADER);
+        WebTestClient.ResponseSpec lastPage = readPage(lastPageCursor);
+
+        //then
+        lastPage
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .doesNotExist(KeysetPage.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(1))
+                .jsonPath("$[0].id").isEqualTo(screenings.get(4).getId());
+    }
+
+    @Test
+    void screenings_are_read_by_film() {
+        //given
+        addFilm("Title 1");
+        addFilm("Title 2");
+        screeningRepository.add(createScreening(SCREENING_DATE, 1L));
+        Screening screeningWithRequiredFilm = screeningRepository.add(
+                createScreening(SCREENING_DATE.plusHours(3), 2L)
+        );
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(SCREENINGS_BASE_ENDPOINT)
+                        .queryParam("filmId", 2L)
+                        .build()
+                )
+                .exchange();
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(1))
+                .jsonPath("$[0].id").isEqualTo(screeningWithRequiredFilm.getId())
+                .jsonPath("$[0].filmTitle").isEqualTo("Title 2");
+    }
+
+    @Test
+    void screenings_are_not_read_with_invalid_cursor() {
+        //when
+        WebTestClient.ResponseSpec spec = readPage("invalid-cursor");
+
+        //then
+        String expectedMessage = new InvalidCursorException().getMessage();
+        spec
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .jsonPath("$.message", equalTo(expectedMessage));
+    }
+
+    private WebTestClient.ResponseSpec readPage(String cursor) {
+        return webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(SCREENINGS_BASE_ENDPOINT)
+                        .queryParam("size", 2)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build()
+                )
+                .exchange();
+    }
+
     private Screening addScreening() {
         var screening = createScreening(SCREENING_DATE);
         return screeningRepository.add(screening);
@@ -1,14 +1,25 @@
 package com.cinema.screenings.application.rest.controllers;
 
 import com.cinema.SpringIT;
+import com.cinema.screenings.SeatsIdsReader;
+import com.cinema.films.application.commands.handlers.CreateFilmHandler;
 import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
+import com.cinema.screenings.application.commands.CreateScreening;
+import com.cinema.screenings.application.commands.handlers.CreateScreeningHandler;
 import com.cinema.screenings.domain.Screening;
 import com.cinema.screenings.domain.ScreeningRepository;
+import com.cinema.screenings.domain.SeatStatus;
+import com.cinema.tickets.application.commands.BookTicket;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import static com.cinema.screenings.ScreeningFixture.FILM_ID;
 import static com.cinema.screenings.ScreeningFixture.SCREENING_DATE;
+import static com.cinema.screenings.ScreeningFixture.createCreateFilmCommand;
 import static com.cinema.screenings.ScreeningFixture.createCreateRoomCommand;
 import static com.cinema.screenings.ScreeningFixture.createScreening;
 import static org.hamcrest.Matchers.everyItem;
@@ -21,9 +32,21 @@ class ReadSeatsControllerIT extends SpringIT {
     @Autowired
     private ScreeningRepository screeningRepository;
 
+    @Autowired
+    private SeatsIdsReader seatsIdsReader;
+
     @Autowired
     private CreateRoomHandler createRoomHandler;
 
+    @Autowired
+    private CreateFilmHandler createFilmHandler;
+
+    @Autowired
+    private CreateScreeningHandler createScreeningHandler;
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
     @Test
     void seats_are_read_by_screening_id() {
         //given
@@ -48,6 +71,49 @@ class ReadSeatsControllerIT extends SpringIT {
                 .jsonPath("$.*.*").value(everyItem(notNullValue()));
     }
 
+    @Test
+    void seat_is_taken_after_ticket_booking() {
+        //given
+        String username = "user1@mail.com";
+        String password = "12345";
+        createUserHandler.handle(new CreateUser(username, password));
+        createFilmHandler.handle(createCreateFilmCommand());
+        addRoom();
+        createScreeningHandler.handle(new CreateScreening(SCREENING_DATE, FILM_ID));
+        Long screeningId = 1L;
+        Long seatId = seatsIdsReader.readByScreeningId(screeningId).get(0);
+        webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT + "/" + screeningId + "/seats")
+                .exchange()
+                .expectBody()
+                .jsonPath("$[0].status").isEqualTo(SeatStatus.FREE.name());
+        webTestClient
+                .post()
+                .uri("/tickets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookTicket(screeningId, seatId))
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange()
+                .expectStatus()
+                .isCreated();
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .get()
+                .uri(SCREENINGS_BASE_ENDPOINT + "/" + screeningId + "/seats")
+                .exchange();
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(seatId)
+                .jsonPath("$[0].status").isEqualTo(SeatStatus.TAKEN.name())
+                .jsonPath("$[1].status").isEqualTo(SeatStatus.FREE.name());
+    }
+
     private void addRoom() {
         createRoomHandler.handle(createCreateRoomCommand());
     }
@@ -0,0 +1,141 @@
+package com.cinema.shared.events.outbox;
+
+import com.cinema.SpringIT;
+import com.cinema.shared.events.EventPublisher;
+import com.cinema.shared.events.outbox.RecordingOutboxListener.TestEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class OutboxIT extends SpringIT {
+
+    @Autowired
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecordingOutboxListener recordingOutboxListener;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${events.outbox.maxAttempts}")
+    private int maxAttempts;
+
+    @BeforeEach
+    void setUp() {
+        recordingOutboxListener.reset();
+    }
+
+    @Test
+    void event_is_stored_in_publishing_transaction() {
+        //given
+        var event = new TestEvent("aggregate-1", 1);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publish(event);
+            assertThat(outboxEventRepository.count()).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(outboxEventRepository.count()).isZero();
+        await()
+                .during(Duration.ofMillis(500))
+                .atMost(Duration.ofSeconds(1))
+                .until(() -> recordingOutboxListener.getReceivedEvents().isEmpty());
+    }
+
+    @Test
+    void event_is_delivered_and_marked_published() {
+        //given
+        var event = new TestEvent("aggregate-1", 1);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publish(event));
+
+        //then
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(outboxEventRepository.findAll())
+                        .singleElement()
+                        .satisfies(outboxEvent -> assertThat(outboxEvent.getPublishedAt()).isNotNull())
+                );
+        assertThat(recordingOutboxListener.getReceivedEvents()).containsExactly(event);
+    }
+
+    @Test
+    void failed_event_is_retried_and_holds_back_later_events_of_its_aggregate() {
+        //given
+        var failingAggregateId = "aggregate-1";
+        recordingOutboxListener.failFor(failingAggregateId);
+        var failingEvent = new TestEvent(failingAggregateId, 1);
+        var heldBackEvent = new TestEvent(failingAggregateId, 2);
+        var otherAggregateEvent = new TestEvent("aggregate-2", 3);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publish(failingEvent);
+            eventPublisher.publish(heldBackEvent);
+            eventPublisher.publish(otherAggregateEvent);
+        });
+
+        //then
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(outboxEventRepository.findById(1L))
+                        .hasValueSatisfying(outboxEvent -> {
+                            assertThat(outboxEvent.getAttempts()).isPositive();
+                            assertThat(outboxEvent.getLastError()).isEqualTo("Listener failed");
+                            assertThat(outboxEvent.getPublishedAt()).isNull();
+                        })
+                );
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> recordingOutboxListener.getReceivedEvents().contains(otherAggregateEvent));
+        assertThat(recordingOutboxListener.getReceivedEvents()).containsExactly(otherAggregateEvent);
+        assertThat(outboxEventRepository.findById(2L)).hasValueSatisfying(outboxEvent -> {
+            assertThat(outboxEvent.getAttempts()).isZero();
+            assertThat(outboxEvent.getPublishedAt()).isNull();
+        });
+    }
+
+    @Test
+    void event_failed_in_all_attempts_stops_holding_back_later_events_of_its_aggregate() {
+        //given
+        var aggregateId = "aggregate-1";
+        var poisonEvent = new TestEvent(aggregateId, 1);
+        var healthyEvent = new TestEvent(aggregateId, 2);
+        recordingOutboxListener.failFor(poisonEvent.number());
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publish(poisonEvent);
+            eventPublisher.publish(healthyEvent);
+        });
+
+        //then
+        await()
+                .atMost(Duration.ofSeconds(10))
+                .until(() -> recordingOutboxListener.getReceivedEvents().contains(healthyEvent));
+        assertThat(recordingOutboxListener.getReceivedEvents()).containsExactly(healthyEvent);
+        assertThat(outboxEventRepository.findById(1L)).hasValueSatisfying(outboxEvent -> {
+            assertThat(outboxEvent.getAttempts()).isEqualTo(maxAttempts);
+            assertThat(outboxEvent.getFailedAt()).isNotNull();
+            assertThat(outboxEvent.getPublishedAt()).isNull();
+        });
+        assertThat(outboxEventRepository.findById(2L)).hasValueSatisfying(outboxEvent ->
+                assertThat(outboxEvent.getPublishedAt()).isNotNull()
+        );
+    }
+}
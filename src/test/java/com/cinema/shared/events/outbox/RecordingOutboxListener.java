@@ -0,0 +1,47 @@
+package com.cinema.shared.events.outbox;
+
+import com.cinema.shared.events.AsyncEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+class RecordingOutboxListener {
+
+    private final List<TestEvent> receivedEvents = new CopyOnWriteArrayList<>();
+    private final Set<String> failingAggregatesIds = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> failingEventsNumbers = ConcurrentHashMap.newKeySet();
+
+    @EventListener
+    void handle(TestEvent event) {
+        if (failingAggregatesIds.contains(event.aggregateId()) || failingEventsNumbers.contains(event.number())) {
+            throw new IllegalStateException("Listener failed");
+        }
+        receivedEvents.add(event);
+    }
+
+    List<TestEvent> getReceivedEvents() {
+        return receivedEvents;
+    }
+
+    void failFor(String aggregateId) {
+        failingAggregatesIds.add(aggregateId);
+    }
+
+    void failFor(int eventNumber) {
+        failingEventsNumbers.add(eventNumber);
+    }
+
+    void reset() {
+        receivedEvents.clear();
+        failingAggregatesIds.clear();
+        failingEventsNumbers.clear();
+    }
+
+    record TestEvent(String aggregateId, int number) implements AsyncEvent {
+    }
+}
@@ -0,0 +1,51 @@
+package com.cinema.shared.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+
+    private static final String SAMPLED_LOGGER_NAME = "org.hibernate.SQL_SLOW";
+
+    private final LoggerContext loggerContext = new LoggerContext();
+
+    @Test
+    void events_of_sampled_logger_are_denied_out_of_sample() {
+        //given
+        var filter = createFilter(0);
+        var logger = loggerContext.getLogger(SAMPLED_LOGGER_NAME);
+
+        //when
+        var reply = filter.decide(null, logger, Level.INFO, "Slow query", null, null);
+
+        //then
+        assertThat(reply).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void level_checks_and_other_loggers_are_not_sampled() {
+        //given
+        var filter = createFilter(0);
+        var sampledLogger = loggerContext.getLogger(SAMPLED_LOGGER_NAME);
+        var otherLogger = loggerContext.getLogger("com.cinema");
+
+        //when
+        var levelCheckReply = filter.decide(null, sampledLogger, Level.INFO, null, null, null);
+        var otherLoggerReply = filter.decide(null, otherLogger, Level.INFO, "Message", null, null);
+
+        //then
+        assertThat(levelCheckReply).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(otherLoggerReply).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private static SamplingTurboFilter createFilter(double sampleRate) {
+        var filter = new SamplingTurboFilter();
+        filter.setLoggerName(SAMPLED_LOGGER_NAME);
+        filter.setSampleRate(sampleRate);
+        return filter;
+    }
+}
@@ -0,0 +1,134 @@
+package com.cinema.shared.metrics;
+
+import com.cinema.SpringIT;
+import com.cinema.films.domain.Film;
+import com.cinema.films.domain.FilmRepository;
+import com.cinema.users.application.commands.CreateAdmin;
+import com.cinema.users.application.commands.handlers.CreateAdminHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static com.cinema.films.FilmFixture.createFilm;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsIT extends SpringIT {
+
+    private static final String FILMS_BASE_ENDPOINT = "/films";
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "12345";
+
+    @Autowired
+    private CreateAdminHandler createAdminHandler;
+
+    @Autowired
+    private FilmRepository filmRepository;
+
+    @Test
+    void films_cache_metrics_are_exposed() {
+        //given
+        addAdminUser();
+        Film film = filmRepository.add(createFilm());
+        filmRepository.readById(film.getId());
+        filmRepository.readById(film.getId());
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/actuator/metrics/cache.gets")
+                        .queryParam("tag", "cache:films")
+                        .queryParam("tag", "result:hit")
+                        .build()
+                )
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange();
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.measurements[0].value").value(value -> assertThat(((Number) value).doubleValue()).isPositive());
+    }
+
+    @Test
+    void handler_metrics_are_exposed_to_prometheus() {
+        //given
+        addAdminUser();
+        webTestClient
+                .delete()
+                .uri(FILMS_BASE_ENDPOINT + "/0")
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .get()
+                .uri("/actuator/prometheus")
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange();
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody(String.class)
+                .value(body -> assertThat(body)
+                        .contains(
+                                "handler_errors_total{exception=\"FilmNotFoundException\",handler=\"DeleteFilmHandler\"",
+                                "handler_duration_seconds_bucket{handler=\"DeleteFilmHandler\"",
+                                "handler_queries_count{handler=\"DeleteFilmHandler\""
+                        )
+                        .doesNotContain("handler_duration_seconds_bucket{exception=")
+                );
+    }
+
+    @Test
+    void handler_queries_are_counted() {
+        //given
+        addAdminUser();
+        Film film = filmRepository.add(createFilm());
+        webTestClient
+                .delete()
+                .uri(FILMS_BASE_ENDPOINT + "/" + film.getId())
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange()
+                .expectStatus()
+                .isNoContent();
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/actuator/metrics/handler.queries")
+                        .queryParam("tag", "handler:DeleteFilmHandler")
+                        .build()
+                )
+                .headers(headers -> headers.setBasicAuth(USERNAME, PASSWORD))
+                .exchange();
+
+        //then
+        spec
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.measurements[?(@.statistic == 'TOTAL')].value")
+                .value(values -> assertThat((List<?>) values)
+                        .singleElement()
+                        .satisfies(total -> assertThat(((Number) total).doubleValue()).isPositive())
+                );
+    }
+
+    private void addAdminUser() {
+        CreateAdmin command = new CreateAdmin(
+                USERNAME,
+                PASSWORD
+        );
+        createAdminHandler.handle(command);
+    }
+}
@@ -25,32 +25,31 @@ public final class TicketFixture {
             .now()
             .plusDays(8)
             .truncatedTo(ChronoUnit.MINUTES);
-    public static final long SEAT_ID = 1L;
     public static final long USER_ID = 1L;
 
     private TicketFixture() {
     }
 
-    public static Ticket createTicket() {
+    public static Ticket createTicket(Long seatId) {
         return new Ticket(
                 TicketStatus.ACTIVE,
                 SCREENING_ID,
-                SEAT_ID,
+                seatId,
                 USER_ID
         );
     }
 
-    public static Ticket createTicket(Long userId) {
+    public static Ticket createTicket(Long seatId, Long userId) {
         return new Ticket(
                 TicketStatus.ACTIVE,
                 SCREENING_ID,
-                SEAT_ID,
+                seatId,
                 userId
         );
     }
 
-    public static Ticket createCancelledTicket() {
-        var ticket = createTicket();
+    public static Ticket createCancelledTicket(Long seatId) {
+        var ticket = createTicket(seatId);
         ticket.cancel();
         return ticket;
     }
@@ -1,6 +1,7 @@
 package com.cinema.tickets.application.rest.controllers;
 
 import com.cinema.SpringIT;
+import com.cinema.screenings.SeatsIdsReader;
 import com.cinema.films.application.commands.handlers.CreateFilmHandler;
 import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
 import com.cinema.screenings.application.commands.handlers.CreateScreeningHandler;
@@ -22,8 +23,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.cinema.tickets.TicketFixture.SCREENING_DATE;
 import static com.cinema.tickets.TicketFixture.createCreateFilmCommand;
@@ -43,6 +51,9 @@ class BookTicketControllerIT extends SpringIT {
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private SeatsIdsReader seatsIdsReader;
+
     @Autowired
     private CreateUserHandler createUserHandler;
 
@@ -123,7 +134,7 @@ class BookTicketControllerIT extends SpringIT {
         String roomId = "1";
         addScreening(filmTitle, roomId);
         Long screeningId = 1L;
-        Long seatId = 1L;
+        Long seatId = seatsIdsReader.readByScreeningId(screeningId).get(0);
         BookTicket command = new BookTicket(
                 screeningId,
                 seatId
@@ -154,7 +165,7 @@ class BookTicketControllerIT extends SpringIT {
     void ticket_is_unique() {
         //given
         addScreening();
-        Ticket ticket = ticketRepository.add(createTicket());
+        Ticket ticket = ticketRepository.add(createTicket(seatsIdsReader.readByScreeningId(1L).get(0)));
         BookTicket command = new BookTicket(
                 ticket.getScreeningId(),
                 ticket.getSeatId()
@@ -178,6 +189,55 @@ class BookTicketControllerIT extends SpringIT {
                 .jsonPath("$.message", equalTo(expectedMessage));
     }
 
+    @Test
+    void ticket_is_booked_only_once_by_concurrent_requests() throws InterruptedException, ExecutionException {
+        //given
+        addScreening();
+        int requestsNumber = 200;
+        BookTicket command = new BookTicket(1L, seatsIdsReader.readByScreeningId(1L).get(0));
+        WebTestClient client = webTestClient
+                .mutate()
+                .responseTimeout(Duration.ofMinutes(1))
+                .build();
+        var executorService = Executors.newFixedThreadPool(requestsNumber);
+        var startSignal = new CountDownLatch(1);
+        List<Future<Integer>> responsesStatuses = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < requestsNumber; i++) {
+            responsesStatuses.add(
+                    executorService.submit(() -> {
+                        startSignal.await();
+                        return client
+                                .post()
+                                .uri(TICKETS_BASE_ENDPOINT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(command)
+                                .headers(headers -> headers.setBasicAuth(username, password))
+                                .exchange()
+                                .returnResult(Void.class)
+                                .getStatus()
+                                .value();
+                    })
+            );
+        }
+        startSignal.countDown();
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> responseStatus : responsesStatuses) {
+            statuses.add(responseStatus.get());
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(statuses)
+                .filteredOn(status -> status == HttpStatus.CREATED.value())
+                .hasSize(1);
+        assertThat(statuses)
+                .filteredOn(status -> status == HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .hasSize(requestsNumber - 1);
+        assertThat(ticketRepository.readAllByUserId(1L)).hasSize(1);
+    }
+
     @Test
     void ticket_is_booked_at_least_1h_before_screening() {
         //given
@@ -187,7 +247,7 @@ class BookTicketControllerIT extends SpringIT {
                 .when(clock.instant())
                 .thenReturn(screeningDate.minusMinutes(59).toInstant(ZoneOffset.UTC));
         Long screeningId = 1L;
-        Long seatId = 1L;
+        Long seatId = seatsIdsReader.readByScreeningId(screeningId).get(0);
         BookTicket command = new BookTicket(
                 screeningId,
                 seatId
@@ -0,0 +1,191 @@
+package com.cinema.tickets.application.rest.controllers;
+
+import com.cinema.SpringIT;
+import com.cinema.screenings.SeatsIdsReader;
+import com.cinema.films.application.commands.handlers.CreateFilmHandler;
+import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
+import com.cinema.screenings.application.commands.handlers.CreateScreeningHandler;
+import com.cinema.tickets.application.commands.BookTickets;
+import com.cinema.tickets.domain.Ticket;
+import com.cinema.tickets.domain.TicketRepository;
+import com.cinema.tickets.domain.TicketStatus;
+import com.cinema.tickets.domain.exceptions.TicketAlreadyExistsException;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static com.cinema.tickets.TicketFixture.SCREENING_DATE;
+import static com.cinema.tickets.TicketFixture.createCreateFilmCommand;
+import static com.cinema.tickets.TicketFixture.createCreateRoomCommand;
+import static com.cinema.tickets.TicketFixture.createCreateScreeningCommand;
+import static com.cinema.tickets.TicketFixture.createTicket;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class BookTicketsControllerIT extends SpringIT {
+
+    private static final String TICKETS_BATCH_ENDPOINT = "/tickets/batch";
+    private static final String username = "user1@mail.com";
+    private static final String password = "12345";
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private SeatsIdsReader seatsIdsReader;
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Autowired
+    private CreateFilmHandler createFilmHandler;
+
+    @Autowired
+    private CreateScreeningHandler createScreeningHandler;
+
+    @Autowired
+    private CreateRoomHandler createRoomHandler;
+
+    @BeforeEach
+    void setUp() {
+        createUserHandler.handle(
+                new CreateUser(
+                        username,
+                        password
+                )
+        );
+    }
+
+    @Test
+    void tickets_are_booked() {
+        //given
+        addScreening();
+        Long screeningId = 1L;
+        List<Long> seatsIds = seatsIdsReader.readByScreeningId(screeningId).subList(0, 3);
+        BookTickets command = new BookTickets(
+                screeningId,
+                seatsIds
+        );
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .post()
+                .uri(TICKETS_BATCH_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(command)
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange();
+
+        //then
+        spec.expectStatus().isCreated();
+        assertThat(ticketRepository.readAllByUserId(1L))
+                .hasSize(seatsIds.size())
+                .allSatisfy(ticket -> {
+                    assertThat(ticket.getStatus()).isEqualTo(TicketStatus.ACTIVE);
+                    assertThat(ticket.getScreeningId()).isEqualTo(screeningId);
+                })
+                .extracting(Ticket::getSeatId)
+                .containsExactlyInAnyOrderElementsOf(seatsIds);
+        webTestClient
+                .get()
+                .uri("/screenings/" + screeningId + "/seats")
+                .exchange()
+                .expectBody()
+                .jsonPath("$[0].status").isEqualTo("TAKEN")
+                .jsonPath("$[1].status").isEqualTo("TAKEN")
+                .jsonPath("$[2].status").isEqualTo("TAKEN")
+                .jsonPath("$[3].status").isEqualTo("FREE");
+    }
+
+    @Test
+    void tickets_are_booked_all_or_nothing() {
+        //given
+        addScreening();
+        List<Long> seatsIds = seatsIdsReader.readByScreeningId(1L);
+        Ticket ticket = ticketRepository.add(createTicket(seatsIds.get(0), 2L));
+        BookTickets command = new BookTickets(
+                ticket.getScreeningId(),
+                List.of(seatsIds.get(1), ticket.getSeatId())
+        );
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .post()
+                .uri(TICKETS_BATCH_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(command)
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange();
+
+        //then
+        String expectedMessage = new TicketAlreadyExistsException().getMessage();
+        spec
+                .expectStatus()
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message", equalTo(expectedMessage));
+        assertThat(ticketRepository.readAllByUserId(1L)).isEmpty();
+    }
+
+    @Test
+    void tickets_are_booked_for_existing_seats() {
+        //given
+        addScreening();
+        Long screeningId = 1L;
+        Long nonExistingSeatId = 0L;
+        BookTickets command = new BookTickets(
+                screeningId,
+                List.of(seatsIdsReader.readByScreeningId(screeningId).get(0), nonExistingSeatId)
+        );
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .post()
+                .uri(TICKETS_BATCH_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(command)
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange();
+
+        //then
+        spec.expectStatus().isNotFound();
+        assertThat(ticketRepository.readAllByUserId(1L)).isEmpty();
+    }
+
+    @Test
+    void tickets_number_is_limited() {
+        //given
+        addScreening();
+        Long screeningId = 1L;
+        List<Long> seatsIds = seatsIdsReader.readByScreeningId(screeningId).subList(0, 11);
+        BookTickets command = new BookTickets(
+                screeningId,
+                seatsIds
+        );
+
+        //when
+        WebTestClient.ResponseSpec spec = webTestClient
+                .post()
+                .uri(TICKETS_BATCH_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(command)
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange();
+
+        //then
+        spec.expectStatus().isBadRequest();
+    }
+
+    private void addScreening() {
+        createFilmHandler.handle(createCreateFilmCommand());
+        createRoomHandler.handle(createCreateRoomCommand());
+        createScreeningHandler.handle(createCreateScreeningCommand(SCREENING_DATE));
+    }
+}
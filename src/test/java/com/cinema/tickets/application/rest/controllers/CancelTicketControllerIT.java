@@ -1,6 +1,7 @@
 package com.cinema.tickets.application.rest.controllers;
 
 import com.cinema.SpringIT;
+import com.cinema.screenings.SeatsIdsReader;
 import com.cinema.films.application.commands.handlers.CreateFilmHandler;
 import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
 import com.cinema.screenings.application.commands.CreateScreening;
@@ -37,6 +38,9 @@ class CancelTicketControllerIT extends SpringIT {
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private SeatsIdsReader seatsIdsReader;
+
     @Autowired
     private CreateUserHandler createUserHandler;
 
@@ -66,7 +70,7 @@ class CancelTicketControllerIT extends SpringIT {
     void ticket_is_cancelled() {
         //give
         addScreening();
-        ticketRepository.add(createTicket());
+        ticketRepository.add(createTicket(firstSeatId()));
 
         //when
         WebTestClient.ResponseSpec spec = webTestClient
@@ -88,7 +92,7 @@ class CancelTicketControllerIT extends SpringIT {
     void ticket_already_cancelled_cannot_be_cancelled() {
         //given
         addScreening();
-        ticketRepository.add(createCancelledTicket());
+        ticketRepository.add(createCancelledTicket(firstSeatId()));
 
         //when
         WebTestClient.ResponseSpec spec = webTestClient
@@ -114,7 +118,7 @@ class CancelTicketControllerIT extends SpringIT {
         CreateScreening command = createCreateScreeningCommand();
         createScreeningHandler.handle(command);
 
-        ticketRepository.add(createTicket());
+        ticketRepository.add(createTicket(firstSeatId()));
         Mockito
                 .when(clock.instant())
                 .thenReturn(command.date().minusHours(23).toInstant(ZoneOffset.UTC));
@@ -138,8 +142,9 @@ class CancelTicketControllerIT extends SpringIT {
     @Test
     void ticket_is_cancelled_if_belongs_to_current_user() {
         //given
+        Long seatId = 1L;
         Long notCurrentUserId = 2L;
-        ticketRepository.add(createTicket(notCurrentUserId));
+        ticketRepository.add(createTicket(seatId, notCurrentUserId));
 
         //when
         WebTestClient.ResponseSpec spec = webTestClient
@@ -157,6 +162,12 @@ class CancelTicketControllerIT extends SpringIT {
                 .jsonPath("$.message", equalTo(expectedMessage));
     }
 
+    private Long firstSeatId() {
+        return seatsIdsReader
+                .readByScreeningId(SCREENING_ID)
+                .get(0);
+    }
+
     private void addScreening() {
         createFilmHandler.handle(createCreateFilmCommand());
         createRoomHandler.handle(createCreateRoomCommand());
@@ -1,29 +1,37 @@
 package com.cinema.tickets.application.rest.controllers;
 
 import com.cinema.SpringIT;
+import com.cinema.screenings.SeatsIdsReader;
 import com.cinema.films.application.commands.CreateFilm;
 import com.cinema.films.application.commands.handlers.CreateFilmHandler;
 import com.cinema.rooms.application.commands.CreateRoom;
 import com.cinema.rooms.application.commands.handlers.CreateRoomHandler;
 import com.cinema.screenings.application.commands.CreateScreening;
 import com.cinema.screenings.application.commands.handlers.CreateScreeningHandler;
+import com.cinema.shared.pagination.KeysetPage;
 import com.cinema.tickets.application.queries.dto.TicketDto;
 import com.cinema.tickets.domain.Ticket;
 import com.cinema.tickets.domain.TicketRepository;
+import com.cinema.tickets.domain.TicketStatus;
 import com.cinema.users.application.commands.CreateUser;
 import com.cinema.users.application.commands.handlers.CreateUserHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.util.List;
+import java.util.Optional;
 
+import static com.cinema.tickets.TicketFixture.SCREENING_ID;
+import static com.cinema.tickets.TicketFixture.USER_ID;
 import static com.cinema.tickets.TicketFixture.createCreateFilmCommand;
 import static com.cinema.tickets.TicketFixture.createCreateRoomCommand;
 import static com.cinema.tickets.TicketFixture.createCreateScreeningCommand;
 import static com.cinema.tickets.TicketFixture.createTicket;
 import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
 
 class ReadTicketControllerIT extends SpringIT {
@@ -35,6 +43,9 @@ class ReadTicketControllerIT extends SpringIT {
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private SeatsIdsReader seatsIdsReader;
+
     @Autowired
     private CreateUserHandler createUserHandler;
 
@@ -69,7 +80,7 @@ class ReadTicketControllerIT extends SpringIT {
         CreateScreening createScreeningCommand = createCreateScreeningCommand();
         createScreeningHandler.handle(createScreeningCommand);
 
-        Ticket ticket = ticketRepository.add(createTicket());
+        Ticket ticket = ticketRepository.add(createTicket(seatsIdsReader.readByScreeningId(SCREENING_ID).get(0)));
 
         int rowNumber = 1;
         int seatNumber = 1;
@@ -106,4 +117,56 @@ class ReadTicketControllerIT extends SpringIT {
                 .jsonPath("$[0].rowNumber").isEqualTo(expected.get(0).rowNumber())
                 .jsonPath("$[0].seatNumber").isEqualTo(expected.get(0).seatNumber());
     }
+
+    @Test
+    void tickets_are_read_page_by_page() {
+        //given
+        createFilmHandler.handle(createCreateFilmCommand());
+        createRoomHandler.handle(createCreateRoomCommand());
+        createScreeningHandler.handle(createCreateScreeningCommand());
+        seatsIdsReader
+                .readByScreeningId(SCREENING_ID)
+                .subList(0, 3)
+                .forEach(seatId -> ticketRepository.add(new Ticket(TicketStatus.ACTIVE, SCREENING_ID, seatId, USER_ID)));
+
+        //when
+        EntityExchangeResult<byte[]> firstPage = readPage(null)
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .exists(KeysetPage.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(2))
+                .jsonPath("$[0].id").isEqualTo(1L)
+                .jsonPath("$[1].id").isEqualTo(2L)
+                .returnResult();
+        String nextCursor = firstPage
+                .getResponseHeaders()
+                .getFirst(KeysetPage.NEXT_CURSOR_HEADER);
+        WebTestClient.ResponseSpec lastPage = readPage(nextCursor);
+
+        //then
+        lastPage
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .doesNotExist(KeysetPage.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$[*]").value(hasSize(1))
+                .jsonPath("$[0].id").isEqualTo(3L)
+                .jsonPath("$[0].seatNumber").isEqualTo(3);
+    }
+
+    private WebTestClient.ResponseSpec readPage(String cursor) {
+        return webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(TICKETS_BASE_ENDPOINT + "/my")
+                        .queryParam("size", 2)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build()
+                )
+                .headers(headers -> headers.setBasicAuth(username, password))
+                .exchange();
+    }
 }
@@ -0,0 +1,106 @@
+package com.cinema.users.application.rest.controllers;
+
+import com.cinema.SpringIT;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.CreateUserToken;
+import com.cinema.users.application.commands.dto.UserTokenDto;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CreateUserTokenControllerIT extends SpringIT {
+
+    private static final String USERS_BASE_ENDPOINT = "/users";
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Test
+    void token_is_created_and_authenticates_requests() {
+        //given
+        var mail = "user1@mail.com";
+        var password = "12345";
+        createUserHandler.handle(new CreateUser(mail, password));
+
+        //when
+        var userToken = webTestClient
+                .post()
+                .uri(USERS_BASE_ENDPOINT + "/token")
+                .bodyValue(new CreateUserToken(mail, password))
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(UserTokenDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        //then
+        assertThat(userToken).isNotNull();
+        assertThat(userToken.refreshToken()).isNotNull();
+        assertThat(userToken.expiresIn()).isPositive();
+        readMyTickets(userToken.accessToken()).expectStatus().isOk();
+    }
+
+    @Test
+    void token_is_not_created_for_wrong_password() {
+        //given
+        var mail = "user1@mail.com";
+        createUserHandler.handle(new CreateUser(mail, "12345"));
+
+        //when
+        var spec = webTestClient
+                .post()
+                .uri(USERS_BASE_ENDPOINT + "/token")
+                .bodyValue(new CreateUserToken(mail, "54321"))
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        //then
+        spec
+                .expectStatus()
+                .isUnauthorized()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid credentials");
+    }
+
+    @Test
+    void tampered_token_is_rejected() {
+        //given
+        var mail = "user1@mail.com";
+        var password = "12345";
+        createUserHandler.handle(new CreateUser(mail, password));
+        var accessToken = webTestClient
+                .post()
+                .uri(USERS_BASE_ENDPOINT + "/token")
+                .bodyValue(new CreateUserToken(mail, password))
+                .exchange()
+                .expectBody(UserTokenDto.class)
+                .returnResult()
+                .getResponseBody()
+                .accessToken();
+        var signatureIndex = accessToken.lastIndexOf('.') + 1;
+        var lastSignatureChar = accessToken.charAt(signatureIndex) == 'A' ? 'B' : 'A';
+        var tamperedToken = accessToken.substring(0, signatureIndex)
+                + lastSignatureChar
+                + accessToken.substring(signatureIndex + 1);
+
+        //when
+        var spec = readMyTickets(tamperedToken);
+
+        //then
+        spec.expectStatus().isUnauthorized();
+    }
+
+    private WebTestClient.ResponseSpec readMyTickets(String accessToken) {
+        return webTestClient
+                .get()
+                .uri("/tickets/my")
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .exchange();
+    }
+}
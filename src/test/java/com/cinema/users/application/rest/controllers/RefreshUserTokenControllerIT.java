@@ -0,0 +1,74 @@
+package com.cinema.users.application.rest.controllers;
+
+import com.cinema.SpringIT;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.CreateUserToken;
+import com.cinema.users.application.commands.RefreshUserToken;
+import com.cinema.users.application.commands.dto.UserTokenDto;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import com.cinema.users.application.commands.handlers.CreateUserTokenHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshUserTokenControllerIT extends SpringIT {
+
+    private static final String USERS_BASE_ENDPOINT = "/users";
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Autowired
+    private CreateUserTokenHandler createUserTokenHandler;
+
+    @Test
+    void token_is_refreshed_and_refresh_token_is_rotated() {
+        //given
+        var mail = "user1@mail.com";
+        var password = "12345";
+        createUserHandler.handle(new CreateUser(mail, password));
+        var userToken = createUserTokenHandler.handle(new CreateUserToken(mail, password));
+
+        //when
+        var refreshedUserToken = webTestClient
+                .post()
+                .uri(USERS_BASE_ENDPOINT + "/token/refresh")
+                .bodyValue(new RefreshUserToken(userToken.refreshToken()))
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(UserTokenDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        //then
+        assertThat(refreshedUserToken).isNotNull();
+        assertThat(refreshedUserToken.refreshToken()).isNotEqualTo(userToken.refreshToken());
+        webTestClient
+                .post()
+                .uri(USERS_BASE_ENDPOINT + "/token/refresh")
+                .bodyValue(new RefreshUserToken(userToken.refreshToken()))
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+    }
+
+    @Test
+    void token_is_not_refreshed_for_unknown_refresh_token() {
+        //when
+        var spec = webTestClient
+                .post()
+                .uri(USERS_BASE_ENDPOINT + "/token/refresh")
+                .bodyValue(new RefreshUserToken(UUID.randomUUID()))
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        //then
+        spec.expectStatus().isUnauthorized();
+    }
+}
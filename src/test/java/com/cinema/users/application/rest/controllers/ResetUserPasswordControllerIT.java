@@ -1,16 +1,22 @@
 package com.cinema.users.application.rest.controllers;
 
 import com.cinema.SpringIT;
+import com.cinema.mails.FakeMailSender;
+import com.cinema.mails.domain.DeadLetterMailRepository;
+import com.cinema.mails.domain.MailType;
 import com.cinema.users.domain.User;
 import com.cinema.users.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static com.cinema.users.UserFixture.createUser;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 class ResetUserPasswordControllerIT extends SpringIT {
 
@@ -19,21 +25,24 @@ class ResetUserPasswordControllerIT extends SpringIT {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FakeMailSender fakeMailSender;
+
+    @Autowired
+    private DeadLetterMailRepository deadLetterMailRepository;
+
+    @BeforeEach
+    void resetMailSender() {
+        fakeMailSender.reset();
+    }
+
     @Test
     void user_password_is_reset() {
         //given
         User user = userRepository.add(createUser());
 
         //when
-        WebTestClient.ResponseSpec spec = webTestClient
-                .patch()
-                .uri(uriBuilder -> uriBuilder
-                        .path(USERS_BASE_ENDPOINT + "/password/reset")
-                        .queryParam("mail", user.getMail())
-                        .build()
-                )
-                .attribute("mail", user.getMail())
-                .exchange();
+        WebTestClient.ResponseSpec spec = resetPassword(user.getMail());
 
         //then
         spec.expectStatus().isOk();
@@ -43,4 +52,78 @@ class ResetUserPasswordControllerIT extends SpringIT {
                 .getPasswordResetToken();
         assertThat(userPasswordResetToken).isNotNull();
     }
+
+    @Test
+    void user_password_reset_mail_is_sent() {
+        //given
+        User user = userRepository.add(createUser());
+
+        //when
+        resetPassword(user.getMail()).expectStatus().isOk();
+
+        //then
+        UUID userPasswordResetToken = userRepository
+                .readyByMail(user.getUsername())
+                .orElseThrow()
+                .getPasswordResetToken();
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(fakeMailSender.getSentMails())
+                        .singleElement()
+                        .satisfies(mail -> {
+                            assertThat(mail.getReceiver()).isEqualTo(user.getMail());
+                            assertThat(mail.getType()).isEqualTo(MailType.USER_PASSWORD_RESET);
+                            assertThat(mail.getText()).contains(userPasswordResetToken.toString());
+                        })
+                );
+    }
+
+    @Test
+    void user_password_reset_mail_is_retried_after_failure() {
+        //given
+        User user = userRepository.add(createUser());
+        fakeMailSender.failNextAttempts(2);
+
+        //when
+        resetPassword(user.getMail()).expectStatus().isOk();
+
+        //then
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(fakeMailSender.getSentMails()).hasSize(1));
+        assertThat(deadLetterMailRepository.readAll()).isEmpty();
+    }
+
+    @Test
+    void user_password_reset_mail_is_dead_lettered_after_last_failed_attempt() {
+        //given
+        User user = userRepository.add(createUser());
+        fakeMailSender.failNextAttempts(3);
+
+        //when
+        resetPassword(user.getMail()).expectStatus().isOk();
+
+        //then
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(deadLetterMailRepository.readAll())
+                        .singleElement()
+                        .satisfies(deadLetterMail -> {
+                            assertThat(deadLetterMail.getReceiver()).isEqualTo(user.getMail());
+                            assertThat(deadLetterMail.getAttempts()).isEqualTo(3);
+                        })
+                );
+        assertThat(fakeMailSender.getSentMails()).isEmpty();
+    }
+
+    private WebTestClient.ResponseSpec resetPassword(String mail) {
+        return webTestClient
+                .patch()
+                .uri(uriBuilder -> uriBuilder
+                        .path(USERS_BASE_ENDPOINT + "/password/reset")
+                        .queryParam("mail", mail)
+                        .build()
+                )
+                .exchange();
+    }
 }
@@ -0,0 +1,54 @@
+package com.cinema.users.application.rest.controllers;
+
+import com.cinema.SpringIT;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.CreateUserToken;
+import com.cinema.users.application.commands.RefreshUserToken;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import com.cinema.users.application.commands.handlers.CreateUserTokenHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RevokeUserTokensControllerIT extends SpringIT {
+
+    private static final String USERS_BASE_ENDPOINT = "/users";
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Autowired
+    private CreateUserTokenHandler createUserTokenHandler;
+
+    @Test
+    void tokens_are_revoked() {
+        //given
+        var mail = "user1@mail.com";
+        var password = "12345";
+        createUserHandler.handle(new CreateUser(mail, password));
+        var userToken = createUserTokenHandler.handle(new CreateUserToken(mail, password));
+
+        //when
+        var spec = webTestClient
+                .post()
+                .uri(USERS_BASE_ENDPOINT + "/token/revoke")
+                .headers(headers -> headers.setBearerAuth(userToken.accessToken()))
+                .exchange();
+
+        //then
+        spec.expectStatus().isNoContent();
+        webTestClient
+                .get()
+                .uri("/tickets/my")
+                .headers(headers -> headers.setBearerAuth(userToken.accessToken()))
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+        webTestClient
+                .post()
+                .uri(USERS_BASE_ENDPOINT + "/token/refresh")
+                .bodyValue(new RefreshUserToken(userToken.refreshToken()))
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+    }
+}
@@ -1,7 +1,11 @@
 package com.cinema.users.application.rest.controllers;
 
 import com.cinema.SpringIT;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.CreateUserToken;
 import com.cinema.users.application.commands.SetNewUserPassword;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import com.cinema.users.application.commands.handlers.CreateUserTokenHandler;
 import com.cinema.users.domain.User;
 import com.cinema.users.domain.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -26,6 +30,12 @@ class SetNewUserPasswordControllerIT extends SpringIT {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Autowired
+    private CreateUserTokenHandler createUserTokenHandler;
+
     @Test
     void user_new_password_is_set() {
         //given
@@ -54,4 +64,72 @@ class SetNewUserPasswordControllerIT extends SpringIT {
                 )
         );
     }
+
+    @Test
+    void user_old_password_is_rejected_after_new_password_is_set() {
+        //given
+        String mail = "user1@mail.com";
+        String oldPassword = "12345";
+        String newPassword = "54321";
+        createUserHandler.handle(new CreateUser(mail, oldPassword));
+        readMyTickets(mail, oldPassword).expectStatus().isOk();
+        UUID passwordResetToken = UUID.randomUUID();
+        User user = userRepository.readyByMail(mail).orElseThrow();
+        user.setPasswordResetToken(passwordResetToken);
+        userRepository.add(user);
+
+        //when
+        webTestClient
+                .patch()
+                .uri(USERS_BASE_ENDPOINT + "/password/new")
+                .bodyValue(new SetNewUserPassword(passwordResetToken, newPassword))
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk();
+
+        //then
+        readMyTickets(mail, oldPassword).expectStatus().isUnauthorized();
+        readMyTickets(mail, newPassword).expectStatus().isOk();
+    }
+
+    @Test
+    void user_access_token_is_rejected_after_new_password_is_set() {
+        //given
+        String mail = "user1@mail.com";
+        String password = "12345";
+        createUserHandler.handle(new CreateUser(mail, password));
+        var userToken = createUserTokenHandler.handle(new CreateUserToken(mail, password));
+        UUID passwordResetToken = UUID.randomUUID();
+        User user = userRepository.readyByMail(mail).orElseThrow();
+        user.setPasswordResetToken(passwordResetToken);
+        userRepository.add(user);
+
+        //when
+        webTestClient
+                .patch()
+                .uri(USERS_BASE_ENDPOINT + "/password/new")
+                .bodyValue(new SetNewUserPassword(passwordResetToken, "54321"))
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk();
+
+        //then
+        webTestClient
+                .get()
+                .uri("/tickets/my")
+                .headers(headers -> headers.setBearerAuth(userToken.accessToken()))
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+    }
+
+    private WebTestClient.ResponseSpec readMyTickets(String mail, String password) {
+        return webTestClient
+                .get()
+                .uri("/tickets/my")
+                .headers(headers -> headers.setBasicAuth(mail, password))
+                .exchange();
+    }
 }
@@ -0,0 +1,63 @@
+package com.cinema.users.infrastrcuture;
+
+import com.cinema.SpringIT;
+import com.cinema.users.application.commands.CreateUser;
+import com.cinema.users.application.commands.handlers.CreateUserHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+class CachingAuthenticationProviderIT extends SpringIT {
+
+    private static final String MAIL = "user1@mail.com";
+    private static final String OLD_PASSWORD = "12345";
+    private static final String NEW_PASSWORD = "54321";
+
+    @Autowired
+    private CreateUserHandler createUserHandler;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RevokedTokens revokedTokens;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @Test
+    void cached_authentication_is_rejected_after_password_is_changed_by_other_instance() {
+        //given
+        createUserHandler.handle(new CreateUser(MAIL, OLD_PASSWORD));
+        readMyTickets(OLD_PASSWORD).expectStatus().isOk();
+        jdbcTemplate.update(
+                "update users set password = ?, tokens_revoked_at = ? where mail = ?",
+                passwordEncoder.encode(NEW_PASSWORD),
+                LocalDateTime.now(clock),
+                MAIL
+        );
+
+        //when
+        revokedTokens.refresh();
+
+        //then
+        readMyTickets(OLD_PASSWORD).expectStatus().isUnauthorized();
+        readMyTickets(NEW_PASSWORD).expectStatus().isOk();
+    }
+
+    private WebTestClient.ResponseSpec readMyTickets(String password) {
+        return webTestClient
+                .get()
+                .uri("/tickets/my")
+                .headers(headers -> headers.setBasicAuth(MAIL, password))
+                .exchange();
+    }
+}